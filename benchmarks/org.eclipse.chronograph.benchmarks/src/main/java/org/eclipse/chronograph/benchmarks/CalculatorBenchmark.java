@@ -0,0 +1,144 @@
+/*******************************************************************************
+ * Copyright (c) 2020 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.chronograph.benchmarks;
+
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.chronograph.benchmarks.SyntheticResolution.Distribution;
+import org.eclipse.chronograph.benchmarks.SyntheticResolution.Item;
+import org.eclipse.chronograph.benchmarks.SyntheticResolution.Shape;
+import org.eclipse.chronograph.internal.api.graphics.Area;
+import org.eclipse.chronograph.internal.api.graphics.Brick;
+import org.eclipse.chronograph.internal.api.graphics.Group;
+import org.eclipse.chronograph.internal.base.PlainData;
+import org.eclipse.chronograph.internal.base.Snapshot;
+import org.eclipse.chronograph.internal.swt.RulerStyler;
+import org.eclipse.chronograph.internal.swt.stage.Calculator;
+import org.eclipse.swt.graphics.Rectangle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ *
+ * Layout and hit-testing of {@link Calculator} the way the stage does them on
+ * paint and on mouse move. The metrics are given explicitly, so no display is
+ * required
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.AverageTime, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "-Xms2g", "-Xmx2g" })
+public class CalculatorBenchmark {
+
+	private static final int HEADER_HEIGHT = 30;
+	private static final int RULERS_HEIGHT = RulerStyler.RULER_DAY_HEIGHT + RulerStyler.RULER_MOUNTH_HEIGHT
+			+ RulerStyler.RULER_YEAR_HEIGHT;
+	private static final int SEPARATOR_HEIGHT = 5;
+	private static final int BRICK_HEIGHT = 30;
+	private static final int PROBES = 1024;
+
+	@Param({ "10000", "100000" })
+	public int bricks;
+
+	@Param({ "UNIFORM", "BURSTY", "OVERLAPPING" })
+	public Distribution distribution;
+
+	@Param({ "800x600", "1920x1080", "3840x2160" })
+	public String viewport;
+
+	/**
+	 * The amount of pixels per unit
+	 */
+	@Param({ "1", "5", "20" })
+	public int scale;
+
+	@Param({ "1", "3" })
+	public int zoom;
+
+	private PlainData<Item> data;
+	private Calculator<Item> calculator;
+	private Rectangle bounds;
+	private long hint;
+	private final int[] probes = new int[PROBES * 2];
+	private int probe;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		data = new PlainData<>(new SyntheticResolution(
+				SyntheticResolution.generate(bricks, Shape.BALANCED, distribution, 42)));
+		data.restructure(SyntheticResolution.STRUCTURE);
+		String[] size = viewport.split("x"); //$NON-NLS-1$
+		bounds = new Rectangle(0, 0, Integer.parseInt(size[0]), Integer.parseInt(size[1]));
+		hint = data.getMaxBrickPosition().map(p -> (p.start() + p.end()) / 2).orElse(0L);
+		calculator = new Calculator<>(data, HEADER_HEIGHT, RULERS_HEIGHT, SEPARATOR_HEIGHT, BRICK_HEIGHT);
+		layout();
+		Random random = new Random(42);
+		for (int i = 0; i < PROBES; i++) {
+			probes[i * 2] = random.nextInt(bounds.width);
+			probes[i * 2 + 1] = random.nextInt(bounds.height);
+		}
+	}
+
+	/**
+	 * The bounds of the groups and the positions of all the bricks for one frame
+	 *
+	 * @return the calculator
+	 */
+	@Benchmark
+	public Calculator<Item> layout() {
+		calculator.calculateObjectBounds(bounds, zoom);
+		Snapshot<Item> snapshot = data.snapshot();
+		for (Group section : snapshot.groups()) {
+			for (Group group : snapshot.subGroups(section)) {
+				for (Group subgroup : snapshot.getSubGroupByGroupSection(group)) {
+					Area area = calculator.getGroupAreaByGroup(subgroup);
+					if (area == null) {
+						continue;
+					}
+					for (Brick<Item> brick : snapshot.bricks(subgroup)) {
+						calculator.calculateObjectPosition(brick, area, hint, 0, scale);
+					}
+				}
+			}
+		}
+		return calculator;
+	}
+
+	/**
+	 * The brick under the mouse pointer at one of the random points of the
+	 * viewport
+	 *
+	 * @return the brick found
+	 */
+	@Benchmark
+	public Optional<Brick<Item>> hitTest() {
+		int index = (probe++ % PROBES) * 2;
+		return calculator.brickAt(probes[index], probes[index + 1]);
+	}
+
+}
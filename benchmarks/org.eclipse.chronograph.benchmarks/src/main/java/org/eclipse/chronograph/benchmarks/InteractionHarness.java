@@ -0,0 +1,379 @@
+/*******************************************************************************
+ * Copyright (c) 2020 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.chronograph.benchmarks;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+import org.eclipse.chronograph.benchmarks.SyntheticResolution.Distribution;
+import org.eclipse.chronograph.benchmarks.SyntheticResolution.Item;
+import org.eclipse.chronograph.benchmarks.SyntheticResolution.Shape;
+import org.eclipse.chronograph.internal.api.graphics.Brick;
+import org.eclipse.chronograph.internal.api.graphics.Group;
+import org.eclipse.chronograph.internal.api.representation.Decoration;
+import org.eclipse.chronograph.internal.api.representation.Styler;
+import org.eclipse.chronograph.internal.swt.BrickStyler;
+import org.eclipse.chronograph.internal.swt.GroupStyler;
+import org.eclipse.chronograph.internal.swt.RulerStyler;
+import org.eclipse.chronograph.internal.swt.SectionStyler;
+import org.eclipse.chronograph.internal.swt.StageStyler;
+import org.eclipse.chronograph.internal.swt.StatusStyler;
+import org.eclipse.chronograph.internal.swt.stage.Stage;
+import org.eclipse.swt.events.PaintEvent;
+import org.eclipse.swt.graphics.GC;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.Rectangle;
+import org.eclipse.swt.layout.FillLayout;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Event;
+import org.eclipse.swt.widgets.Shell;
+
+/**
+ *
+ * Replays the scripted interactions against {@link Stage} and paints every
+ * frame offscreen through {@link Stage#repaint(PaintEvent)}. The frame time
+ * covers the interaction and the paint, the percentiles, the allocation per
+ * frame and the peak heap are reported as JSON. Requires a display, for
+ * example <code>xvfb-run</code> on CI:
+ *
+ * <pre>
+ * java -cp benchmarks.jar org.eclipse.chronograph.benchmarks.InteractionHarness bricks=1000000 scripts=pan,zoom out=frames.json
+ * </pre>
+ *
+ */
+public final class InteractionHarness {
+
+	/**
+	 * The interaction sequences, every step is followed by a frame
+	 */
+	public enum Script {
+		/**
+		 * Drag-pan for ten seconds at sixty frames per second
+		 */
+		PAN(600) {
+			@Override
+			void step(Stage<?> stage, int frame) {
+				stage.navigateToUnit(frame * 3L);
+			}
+		},
+		/**
+		 * Wheel-zoom from the year to the day and back
+		 */
+		ZOOM(120) {
+			@Override
+			void step(Stage<?> stage, int frame) {
+				if (frame < frames / 2) {
+					stage.scaleDown();
+				} else {
+					stage.scaleUp();
+				}
+			}
+		},
+		/**
+		 * Vertical zoom in and out of the rows
+		 */
+		ROWS(60) {
+			@Override
+			void step(Stage<?> stage, int frame) {
+				if (frame % 20 < 10) {
+					stage.setZoomLevelDown();
+				} else {
+					stage.setZoomLevelUp();
+				}
+			}
+		},
+		/**
+		 * Vertical scroll down through the rows
+		 */
+		SCROLL(300) {
+			@Override
+			void step(Stage<?> stage, int frame) {
+				stage.getVerticalBar().setSelection(frame * 20);
+				stage.verticalScroll(null);
+			}
+		},
+		/**
+		 * Hover and click along the diagonal of the stage
+		 */
+		SELECT(300) {
+			@Override
+			void step(Stage<?> stage, int frame) {
+				select(stage, frame);
+			}
+
+			private <D> void select(Stage<D> stage, int frame) {
+				Rectangle area = stage.getClientArea();
+				int x = frame * 7 % Math.max(1, area.width);
+				int y = frame * 13 % Math.max(1, area.height);
+				stage.brickAt(x, y).ifPresent(stage::select);
+			}
+		};
+
+		final int frames;
+
+		Script(int frames) {
+			this.frames = frames;
+		}
+
+		abstract void step(Stage<?> stage, int frame);
+	}
+
+	private final Display display;
+	private final Shell shell;
+	private final Stage<Item> stage;
+	private final Image image;
+
+	/**
+	 *
+	 * @param display the display to create the stage on
+	 * @param bricks  the amount of bricks
+	 * @param width   the width of the stage
+	 * @param height  the height of the stage
+	 */
+	public InteractionHarness(Display display, int bricks, int width, int height) {
+		this.display = display;
+		List<Styler> stylers = Arrays.asList(new BrickStyler(), new StageStyler(), new GroupStyler(),
+				new SectionStyler(), new RulerStyler(), new StatusStyler());
+		stylers.forEach(Styler::initClassicTheme);
+		this.shell = new Shell(display);
+		shell.setLayout(new FillLayout());
+		SyntheticResolution resolution = new SyntheticResolution(
+				SyntheticResolution.generate(bricks, Shape.BALANCED, Distribution.UNIFORM, 42));
+		this.stage = new Stage<>(shell, resolution, new Labels());
+		shell.setSize(width, height);
+		shell.layout();
+		stage.structure(SyntheticResolution.STRUCTURE);
+		this.image = new Image(display, width, height);
+	}
+
+	/**
+	 * Replays the script from the start of the time line
+	 *
+	 * @param script the script to replay
+	 * @return the measurements
+	 */
+	public Report run(Script script) {
+		stage.navigateToUnit(0);
+		frame();
+		System.gc();
+		List<MemoryPoolMXBean> pools = heapPools();
+		pools.forEach(MemoryPoolMXBean::resetPeakUsage);
+		Allocation allocation = new Allocation();
+		long[] nanos = new long[script.frames];
+		long allocated = allocation.current();
+		for (int i = 0; i < script.frames; i++) {
+			long start = System.nanoTime();
+			script.step(stage, i);
+			frame();
+			nanos[i] = System.nanoTime() - start;
+		}
+		allocated = allocation.current() - allocated;
+		long peak = 0;
+		for (MemoryPoolMXBean pool : pools) {
+			peak += pool.getPeakUsage().getUsed();
+		}
+		return new Report(script, nanos, allocation.supported() ? allocated / script.frames : -1, peak);
+	}
+
+	private void frame() {
+		while (display.readAndDispatch()) {
+			// let the stage handle the posted events
+		}
+		GC gc = new GC(image);
+		try {
+			Event event = new Event();
+			event.widget = stage;
+			event.display = display;
+			event.gc = gc;
+			Rectangle area = stage.getClientArea();
+			event.width = area.width;
+			event.height = area.height;
+			stage.repaint(new PaintEvent(event));
+		} finally {
+			gc.dispose();
+		}
+	}
+
+	private static List<MemoryPoolMXBean> heapPools() {
+		List<MemoryPoolMXBean> pools = new ArrayList<>();
+		for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+			if (pool.getType() == MemoryType.HEAP) {
+				pools.add(pool);
+			}
+		}
+		return pools;
+	}
+
+	public void dispose() {
+		image.dispose();
+		shell.dispose();
+	}
+
+	/**
+	 * The measurements of the replayed script
+	 */
+	public static final class Report {
+
+		private final Script script;
+		private final long[] nanos;
+		private final long allocated;
+		private final long peak;
+
+		Report(Script script, long[] nanos, long allocated, long peak) {
+			this.script = script;
+			this.nanos = nanos.clone();
+			this.allocated = allocated;
+			this.peak = peak;
+			Arrays.sort(this.nanos);
+		}
+
+		/**
+		 *
+		 * @param quantile the quantile from 0 to 1
+		 * @return the frame time in nanoseconds
+		 */
+		public long percentile(double quantile) {
+			int index = (int) Math.ceil(quantile * nanos.length) - 1;
+			return nanos[Math.max(0, Math.min(nanos.length - 1, index))];
+		}
+
+		/**
+		 *
+		 * @return the bytes allocated by the thread per frame or -1 if the JVM
+		 *         does not count them
+		 */
+		public long allocated() {
+			return allocated;
+		}
+
+		/**
+		 *
+		 * @return the sum of the peak usages of the heap pools in bytes
+		 */
+		public long peak() {
+			return peak;
+		}
+
+		String json() {
+			return String.format(Locale.ROOT, "{\"script\":\"%s\",\"frames\":%d," //$NON-NLS-1$
+					+ "\"p50\":%.3f,\"p95\":%.3f,\"p99\":%.3f,\"max\":%.3f," //$NON-NLS-1$
+					+ "\"allocatedPerFrame\":%d,\"peakHeap\":%d}", //$NON-NLS-1$
+					script.name().toLowerCase(Locale.ROOT), nanos.length, millis(percentile(0.5)),
+					millis(percentile(0.95)), millis(percentile(0.99)), millis(nanos[nanos.length - 1]), allocated,
+					peak);
+		}
+
+		private static double millis(long nanos) {
+			return nanos / 1e6;
+		}
+	}
+
+	/**
+	 * The bytes allocated by the current thread, if the JVM counts them
+	 */
+	private static final class Allocation {
+
+		private final java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+		private final long thread = Thread.currentThread().getId();
+
+		boolean supported() {
+			return threads instanceof com.sun.management.ThreadMXBean
+					&& ((com.sun.management.ThreadMXBean) threads).isThreadAllocatedMemorySupported();
+		}
+
+		long current() {
+			if (!supported()) {
+				return 0;
+			}
+			return ((com.sun.management.ThreadMXBean) threads).getThreadAllocatedBytes(thread);
+		}
+	}
+
+	private static final class Labels implements Decoration<Item, Image> {
+
+		@Override
+		public Optional<Image> brickImage(Brick<Item> element) {
+			return Optional.empty();
+		}
+
+		@Override
+		public String brickText(Brick<Item> element) {
+			return element.id();
+		}
+
+		@Override
+		public String groupText(Group element) {
+			return element.id();
+		}
+
+	}
+
+	/**
+	 * Arguments are <code>key=value</code> pairs: <code>bricks</code>,
+	 * <code>width</code>, <code>height</code>, <code>scripts</code> as the comma
+	 * separated names and <code>out</code> as the report file, the report is
+	 * printed to the standard output otherwise
+	 *
+	 * @param args the arguments
+	 * @throws IOException if the report cannot be written
+	 */
+	public static void main(String[] args) throws IOException {
+		Map<String, String> options = new HashMap<>();
+		for (String arg : args) {
+			int split = arg.indexOf('=');
+			if (split > 0) {
+				options.put(arg.substring(0, split), arg.substring(split + 1));
+			}
+		}
+		int bricks = Integer.parseInt(options.getOrDefault("bricks", "1000000")); //$NON-NLS-1$ //$NON-NLS-2$
+		int width = Integer.parseInt(options.getOrDefault("width", "1920")); //$NON-NLS-1$ //$NON-NLS-2$
+		int height = Integer.parseInt(options.getOrDefault("height", "1080")); //$NON-NLS-1$ //$NON-NLS-2$
+		List<Script> scripts = new ArrayList<>();
+		for (String name : options.getOrDefault("scripts", "pan,zoom,rows,scroll,select").split(",")) { //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			scripts.add(Script.valueOf(name.trim().toUpperCase(Locale.ROOT)));
+		}
+		Display display = new Display();
+		List<String> reports = new ArrayList<>();
+		try {
+			InteractionHarness harness = new InteractionHarness(display, bricks, width, height);
+			for (Script script : scripts) {
+				reports.add(harness.run(script).json());
+			}
+			harness.dispose();
+		} finally {
+			display.dispose();
+		}
+		String json = String.format(Locale.ROOT,
+				"{\"bricks\":%d,\"width\":%d,\"height\":%d,\"unit\":\"ms\",\"scripts\":[%s]}%n", //$NON-NLS-1$
+				bricks, width, height, String.join(",", reports)); //$NON-NLS-1$
+		String out = options.get("out"); //$NON-NLS-1$
+		if (out == null) {
+			System.out.print(json);
+		} else {
+			Files.write(Paths.get(out), json.getBytes(StandardCharsets.UTF_8));
+		}
+	}
+
+}
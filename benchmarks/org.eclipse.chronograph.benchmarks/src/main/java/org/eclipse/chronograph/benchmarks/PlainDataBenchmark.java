@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright (c) 2020 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.chronograph.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.eclipse.chronograph.benchmarks.SyntheticResolution.Item;
+import org.eclipse.chronograph.benchmarks.SyntheticResolution.Shape;
+import org.eclipse.chronograph.internal.api.graphics.Brick;
+import org.eclipse.chronograph.internal.api.graphics.Group;
+import org.eclipse.chronograph.internal.api.graphics.Position;
+import org.eclipse.chronograph.internal.base.PlainData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 
+ * Structuring and querying of {@link PlainData}
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx8g" })
+public class PlainDataBenchmark {
+
+	@Param({ "1000", "100000", "1000000", "5000000" })
+	public int bricks;
+
+	@Param({ "NARROW", "BALANCED", "WIDE" })
+	public Shape shape;
+
+	private SyntheticResolution resolution;
+	private PlainData<Item> data;
+	private Predicate<Brick<Item>> actual;
+	private final List<String[]> probes = new ArrayList<>();
+	private int probe;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		resolution = new SyntheticResolution(SyntheticResolution.generate(bricks, shape, 42));
+		data = new PlainData<>(resolution);
+		data.restructure(SyntheticResolution.STRUCTURE);
+		actual = brick -> brick.position().start() < 1825 && brick.position().end() > 1825;
+		for (Group section : data.groups()) {
+			for (Group group : data.subGroups(section)) {
+				for (Group subgroup : data.getSubGroupByGroupSection(group)) {
+					probes.add(new String[] { subgroup.id(), group.id(), section.id() });
+				}
+			}
+		}
+	}
+
+	@Benchmark
+	public PlainData<Item> restructure() {
+		PlainData<Item> fresh = new PlainData<>(resolution);
+		fresh.restructure(SyntheticResolution.STRUCTURE);
+		return fresh;
+	}
+
+	@Benchmark
+	public List<Brick<Item>> query() {
+		return data.query(actual);
+	}
+
+	@Benchmark
+	public Optional<Position> getMaxBrickPosition() {
+		return data.getMaxBrickPosition();
+	}
+
+	@Benchmark
+	public List<Brick<Item>> getBrickBySubgroup() {
+		String[] ids = probes.get(probe++ % probes.size());
+		return data.getBrickBySubgroup(ids[0], ids[1], ids[2]);
+	}
+
+}
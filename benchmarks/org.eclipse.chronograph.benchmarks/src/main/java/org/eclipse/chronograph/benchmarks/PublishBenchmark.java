@@ -0,0 +1,90 @@
+/*******************************************************************************
+ * Copyright (c) 2020 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.chronograph.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.chronograph.benchmarks.SyntheticResolution.Item;
+import org.eclipse.chronograph.benchmarks.SyntheticResolution.Shape;
+import org.eclipse.chronograph.internal.base.PlainData;
+import org.eclipse.chronograph.internal.base.Snapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 
+ * One tick of the live feed over the loaded {@link PlainData}: a few items are
+ * ingested, the ones fed by the previous tick are expired and the next
+ * snapshot is published. The amount of the loaded items stays the same, so the
+ * cost per tick shows how it grows with the size of the rows
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.AverageTime, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx8g" })
+public class PublishBenchmark {
+
+	/**
+	 * The fed items are placed before the generated ones, so the expiry removes
+	 * only the items fed by the previous tick
+	 */
+	private static final long PAST = -1_000_000_000L;
+
+	@Param({ "10000", "100000", "1000000" })
+	public int bricks;
+
+	@Param({ "NARROW", "WIDE" })
+	public Shape shape;
+
+	@Param({ "1", "10" })
+	public int fed;
+
+	private List<Item> items;
+	private PlainData<Item> data;
+	private long tick;
+	private int next;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		items = SyntheticResolution.generate(bricks, shape, 42);
+		data = new PlainData<>(new SyntheticResolution(items));
+		data.restructure(SyntheticResolution.STRUCTURE);
+	}
+
+	@Benchmark
+	public Snapshot<Item> tick() {
+		long unit = PAST + tick++;
+		for (int i = 0; i < fed; i++) {
+			// the fed item goes to the row of the random generated one
+			Item row = items.get(next++ % items.size());
+			data.ingest(new Item("fed." + next, row.project, row.team, row.person, unit, unit)); //$NON-NLS-1$
+		}
+		data.expire(unit);
+		return data.publish();
+	}
+
+}
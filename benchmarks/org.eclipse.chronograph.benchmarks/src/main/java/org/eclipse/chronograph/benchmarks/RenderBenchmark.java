@@ -0,0 +1,147 @@
+/*******************************************************************************
+ * Copyright (c) 2020 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.chronograph.benchmarks;
+
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.chronograph.benchmarks.SyntheticResolution.Distribution;
+import org.eclipse.chronograph.benchmarks.SyntheticResolution.Item;
+import org.eclipse.chronograph.benchmarks.SyntheticResolution.Shape;
+import org.eclipse.chronograph.internal.api.graphics.Brick;
+import org.eclipse.chronograph.internal.api.graphics.Group;
+import org.eclipse.chronograph.internal.api.representation.Decoration;
+import org.eclipse.chronograph.internal.base.PlainData;
+import org.eclipse.chronograph.internal.base.UnitConverter;
+import org.eclipse.chronograph.internal.swt.RulerStyler;
+import org.eclipse.chronograph.internal.swt.renderers.impl.ChronographManagerRenderers;
+import org.eclipse.chronograph.internal.swt.renderers.impl.RecordingSurface;
+import org.eclipse.chronograph.internal.swt.renderers.impl.RecordingSurface.Kind;
+import org.eclipse.chronograph.internal.swt.stage.Calculator;
+import org.eclipse.chronograph.internal.swt.stage.ScenePainter;
+import org.eclipse.swt.graphics.Rectangle;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ *
+ * Full frame painted by {@link ScenePainter} onto {@link RecordingSurface}, so
+ * the CPU time of the renderers is measured without a display. The amount of
+ * the draw calls, state calls and effective state changes of the last frame is
+ * reported along with the time
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.AverageTime, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "-Xms2g", "-Xmx2g" })
+public class RenderBenchmark {
+
+	/**
+	 * The calls made by the last frame
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class Frame {
+
+		public long draws;
+		public long states;
+		public long changes;
+
+	}
+
+	private static final int HEADER_HEIGHT = 30;
+	private static final int RULERS_HEIGHT = RulerStyler.RULER_DAY_HEIGHT + RulerStyler.RULER_MOUNTH_HEIGHT
+			+ RulerStyler.RULER_YEAR_HEIGHT;
+	private static final int SEPARATOR_HEIGHT = 5;
+	private static final int BRICK_HEIGHT = 30;
+
+	@Param({ "10000", "100000" })
+	public int bricks;
+
+	@Param({ "UNIFORM", "BURSTY", "OVERLAPPING" })
+	public Distribution distribution;
+
+	@Param({ "800x600", "1920x1080", "3840x2160" })
+	public String viewport;
+
+	/**
+	 * The amount of pixels per unit
+	 */
+	@Param({ "1", "5", "20" })
+	public int scale;
+
+	private PlainData<Item> data;
+	private Calculator<Item> calculator;
+	private ScenePainter<Item> painter;
+	private Rectangle bounds;
+	private final RecordingSurface surface = new RecordingSurface();
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		data = new PlainData<>(new SyntheticResolution(
+				SyntheticResolution.generate(bricks, Shape.BALANCED, distribution, 42)));
+		data.restructure(SyntheticResolution.STRUCTURE);
+		String[] size = viewport.split("x"); //$NON-NLS-1$
+		bounds = new Rectangle(0, 0, Integer.parseInt(size[0]), Integer.parseInt(size[1]));
+		long hint = data.getMaxBrickPosition().map(p -> (p.start() + p.end()) / 2).orElse(0L);
+		calculator = new Calculator<>(data, HEADER_HEIGHT, RULERS_HEIGHT, SEPARATOR_HEIGHT, BRICK_HEIGHT);
+		calculator.calculateObjectBounds(bounds, 1);
+		painter = new ScenePainter<>(new ChronographManagerRenderers<>(UnitConverter.DEFAULT), new Labels());
+		painter.viewport(scale, hint, 0, 1);
+	}
+
+	@Benchmark
+	public RecordingSurface frame(Frame frame) {
+		surface.reset();
+		painter.paint(surface, bounds, data.snapshot(), calculator, Collections.emptyList(), 0, 0);
+		frame.draws = surface.draws();
+		frame.states = surface.count(Kind.STATE);
+		frame.changes = surface.changes();
+		return surface;
+	}
+
+	private static final class Labels implements Decoration<Item, Object> {
+
+		@Override
+		public Optional<Object> brickImage(Brick<Item> element) {
+			return Optional.empty();
+		}
+
+		@Override
+		public String brickText(Brick<Item> element) {
+			return element.id();
+		}
+
+		@Override
+		public String groupText(Group element) {
+			return element.id();
+		}
+
+	}
+
+}
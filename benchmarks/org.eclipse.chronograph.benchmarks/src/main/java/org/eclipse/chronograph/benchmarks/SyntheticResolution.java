@@ -0,0 +1,279 @@
+/*******************************************************************************
+ * Copyright (c) 2020 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.chronograph.benchmarks;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+
+import org.eclipse.chronograph.internal.base.data.DefaultAccess;
+
+/**
+ * 
+ * Resolution over the synthetic items generated in memory with the fixed seed.
+ * It is deliberately separate from the dataset generator of the tests bundle:
+ * the benchmark module compiles only the sources of the bundles and does not
+ * depend on the tests bundle
+ *
+ */
+public final class SyntheticResolution extends DefaultAccess<SyntheticResolution.Item> {
+
+	/**
+	 * The group of the items at one of the levels, identified by the key of the
+	 * level
+	 */
+	public abstract static class Node {
+
+		final String id;
+
+		Node(String id) {
+			this.id = id;
+		}
+	}
+
+	public static final class Project extends Node {
+
+		Project(String id) {
+			super(id);
+		}
+	}
+
+	public static final class Team extends Node {
+
+		Team(String id) {
+			super(id);
+		}
+	}
+
+	public static final class Person extends Node {
+
+		Person(String id) {
+			super(id);
+		}
+	}
+
+	private static final int DAYS = 3650;
+	private static final int BURSTS = 20;
+
+	public static final List<Class<?>> STRUCTURE = Arrays.asList(Project.class, Team.class, Person.class);
+
+	/**
+	 * The amount of projects, teams per project and persons per team
+	 */
+	public enum Shape {
+		NARROW(2, 2, 5), BALANCED(10, 10, 10), WIDE(100, 10, 10);
+
+		final int projects;
+		final int teams;
+		final int persons;
+
+		Shape(int projects, int teams, int persons) {
+			this.projects = projects;
+			this.teams = teams;
+			this.persons = persons;
+		}
+	}
+
+	/**
+	 * The placement of the items over the time line
+	 */
+	public enum Distribution {
+		/**
+		 * Short items spread uniformly
+		 */
+		UNIFORM,
+		/**
+		 * Short items gathered around a few moments
+		 */
+		BURSTY,
+		/**
+		 * Long items overlapping each other within a row
+		 */
+		OVERLAPPING
+	}
+
+	public static final class Item {
+
+		final String id;
+		final String project;
+		final String team;
+		final String person;
+		final long start;
+		final long end;
+
+		Item(String id, String project, String team, String person, long start, long end) {
+			this.id = id;
+			this.project = project;
+			this.team = team;
+			this.person = person;
+			this.start = start;
+			this.end = end;
+		}
+
+		public long start() {
+			return start;
+		}
+
+		public long end() {
+			return end;
+		}
+	}
+
+	private final List<Item> items;
+
+	public SyntheticResolution(List<Item> items) {
+		super(Item.class);
+		this.items = items;
+	}
+
+	/**
+	 * Generates the items spread uniformly over ten years of days
+	 * 
+	 * @param count the amount of items
+	 * @param shape the hierarchy shape
+	 * @param seed  the random seed
+	 * @return the items
+	 */
+	public static List<Item> generate(int count, Shape shape, long seed) {
+		return generate(count, shape, Distribution.UNIFORM, seed);
+	}
+
+	/**
+	 * Generates the items placed over ten years of days
+	 * 
+	 * @param count        the amount of items
+	 * @param shape        the hierarchy shape
+	 * @param distribution the placement of the items
+	 * @param seed         the random seed
+	 * @return the items
+	 */
+	public static List<Item> generate(int count, Shape shape, Distribution distribution, long seed) {
+		Random random = new Random(seed);
+		long[] bursts = new long[distribution == Distribution.BURSTY ? BURSTS : 0];
+		for (int i = 0; i < bursts.length; i++) {
+			bursts[i] = random.nextInt(DAYS);
+		}
+		String[] projects = names("project.", shape.projects); //$NON-NLS-1$
+		String[] teams = names("team.", shape.teams); //$NON-NLS-1$
+		String[] persons = names("person.", shape.persons); //$NON-NLS-1$
+		Item[] items = new Item[count];
+		for (int i = 0; i < count; i++) {
+			long start = start(random, distribution, bursts);
+			items[i] = new Item(String.valueOf(i), projects[random.nextInt(projects.length)],
+					teams[random.nextInt(teams.length)], persons[random.nextInt(persons.length)], start,
+					start + 1 + random.nextInt(distribution == Distribution.OVERLAPPING ? 365 : 30));
+		}
+		return Arrays.asList(items);
+	}
+
+	private static long start(Random random, Distribution distribution, long[] bursts) {
+		if (distribution == Distribution.BURSTY) {
+			return bursts[random.nextInt(bursts.length)] + Math.round(random.nextGaussian() * 3);
+		}
+		return random.nextInt(DAYS);
+	}
+
+	private static String[] names(String prefix, int count) {
+		String[] names = new String[count];
+		for (int i = 0; i < count; i++) {
+			names[i] = prefix + i;
+		}
+		return names;
+	}
+
+	public List<Item> items() {
+		return items;
+	}
+
+	@Override
+	public Function<Predicate<Item>, List<Item>> input() {
+		return filter -> items.stream().filter(filter).collect(Collectors.toList());
+	}
+
+	@Override
+	public void input(Predicate<Item> filter, Consumer<? super Item> sink) {
+		for (Item item : items) {
+			if (filter.test(item)) {
+				sink.accept(item);
+			}
+		}
+	}
+
+	@Override
+	public <D> Function<D, String> identification(Class<D> domain) {
+		if (domain == Item.class) {
+			return item -> ((Item) item).id;
+		}
+		if (Node.class.isAssignableFrom(domain)) {
+			return node -> ((Node) node).id;
+		}
+		return String::valueOf;
+	}
+
+	@Override
+	public <G> Function<Item, Optional<G>> adapt(Class<G> group) {
+		if (group == Project.class) {
+			return item -> Optional.of(group.cast(new Project(item.project)));
+		}
+		if (group == Team.class) {
+			return item -> Optional.of(group.cast(new Team(item.team)));
+		}
+		if (group == Person.class) {
+			return item -> Optional.of(group.cast(new Person(item.person)));
+		}
+		return item -> Optional.empty();
+	}
+
+	@Override
+	public <G> Function<Item, String> grouping(Class<G> grouping) {
+		if (grouping == Project.class) {
+			return item -> item.project;
+		}
+		if (grouping == Team.class) {
+			return item -> item.team;
+		}
+		return item -> item.person;
+	}
+
+	@Override
+	public Function<Item, Integer> start() {
+		return item -> (int) item.start;
+	}
+
+	@Override
+	public Function<Item, Integer> end() {
+		return item -> (int) item.end;
+	}
+
+	@Override
+	public ToLongFunction<Item> startAsLong() {
+		return Item::start;
+	}
+
+	@Override
+	public ToLongFunction<Item> endAsLong() {
+		return Item::end;
+	}
+
+	@Override
+	public List<Class<?>> groupings() {
+		return STRUCTURE;
+	}
+
+}
@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Copyright (c) 2020 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.chronograph.benchmarks;
+
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.chronograph.internal.base.UnitConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 
+ * Conversions of {@link UnitConverter} for the moments spread over 20 years
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UnitConverterBenchmark {
+
+	private static final int MOMENTS = 1024;
+
+	@Param({ "DAYS", "HOURS", "MINUTES" })
+	public TimeUnit unit;
+
+	private UnitConverter converter;
+	private final long[] moments = new long[MOMENTS];
+	private final long[] units = new long[MOMENTS];
+	private final LocalDate[] dates = new LocalDate[MOMENTS];
+	private int index;
+
+	@Setup
+	public void setUp() {
+		converter = new UnitConverter(UnitConverter.DEFAULT.origin(), unit);
+		Random random = new Random(42);
+		long span = TimeUnit.DAYS.toMillis(3650);
+		for (int i = 0; i < MOMENTS; i++) {
+			moments[i] = converter.origin() - span + (long) (random.nextDouble() * 2 * span);
+			units[i] = converter.toUnits(moments[i]);
+			dates[i] = LocalDate.ofEpochDay(UnitConverter.HISTORICAL_TIME.toEpochDay() - 3650 + random.nextInt(7300));
+		}
+	}
+
+	@Benchmark
+	public long toUnits() {
+		return converter.toUnits(moments[index++ & (MOMENTS - 1)]);
+	}
+
+	@Benchmark
+	public long toEpochMillis() {
+		return converter.toEpochMillis(units[index++ & (MOMENTS - 1)]);
+	}
+
+	@Benchmark
+	public int localDatetoUnits() {
+		return UnitConverter.localDatetoUnits(dates[index++ & (MOMENTS - 1)]);
+	}
+
+}
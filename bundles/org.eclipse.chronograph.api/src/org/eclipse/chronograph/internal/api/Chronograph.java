@@ -14,6 +14,7 @@ package org.eclipse.chronograph.internal.api;
 
 import java.util.List;
 
+import org.eclipse.chronograph.internal.api.metrics.Metrics;
 import org.eclipse.chronograph.internal.api.representation.Style;
 
 /**
@@ -43,4 +44,10 @@ public interface Chronograph {
 	 */
 	void refresh();
 
+	/**
+	 * 
+	 * @return the metrics of this chronograph
+	 */
+	Metrics metrics();
+
 }
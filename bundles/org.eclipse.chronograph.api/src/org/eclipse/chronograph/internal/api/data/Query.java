@@ -0,0 +1,56 @@
+/*******************************************************************************
+ * Copyright (c) 2020 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.chronograph.internal.api.data;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.eclipse.chronograph.internal.api.graphics.Position;
+
+/**
+ * 
+ * Describes the part of the input to be retrieved, so the {@link Resolution}
+ * can push it down to the remote storage
+ * 
+ * @since 0.1
+ *
+ */
+public interface Query {
+
+	/**
+	 * The time window in units, the objects intersecting it are requested
+	 * 
+	 * @return the time window or empty for the whole time line
+	 */
+	Optional<Position> window();
+
+	/**
+	 * The accepted "grouping" keys by the grouping type, the types that are not
+	 * mentioned are not filtered
+	 * 
+	 * @return the accepted keys by grouping type
+	 */
+	Map<Class<?>, Set<String>> groups();
+
+	/**
+	 * The objects beyond the limit are never pushed to the sink, but the
+	 * {@link Resolution} that does not push the query down may still retrieve
+	 * them from the storage, see
+	 * {@link Resolution#input(Query, java.util.function.Consumer)}
+	 * 
+	 * @return the maximum amount of objects to retrieve
+	 */
+	long limit();
+
+}
@@ -12,14 +12,25 @@
  *******************************************************************************/
 package org.eclipse.chronograph.internal.api.data;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+import org.eclipse.chronograph.internal.api.graphics.Position;
 
 /**
  * 
- * Resolves domain objects to be represented
+ * Resolves domain objects to be represented. Implementations must be safe for
+ * concurrent use: the input may be retrieved from a background thread while it
+ * is being retrieved by the UI thread, and the functions are applied from
+ * several threads to structure large inputs in parallel.
  * 
  * @since 0.1
  *
@@ -36,6 +47,56 @@ public interface Resolution<I> {
 	 */
 	Function<Predicate<I>, List<I>> input();
 
+	/**
+	 * Pushes input domain objects accepted by the given predicate to the sink one
+	 * by one, as they are retrieved from the remote storage. Implementations
+	 * should override it to avoid materializing the whole input, by default it
+	 * delegates to {@link #input()}.
+	 * 
+	 * @param filter the predicate to filter input
+	 * @param sink   the consumer of the retrieved domain objects
+	 */
+	default void input(Predicate<I> filter, Consumer<? super I> sink) {
+		input().apply(filter).forEach(sink);
+	}
+
+	/**
+	 * Pushes input domain objects matching the given query to the sink.
+	 * Implementations should override it to push the query down to the remote
+	 * storage, by default the query is evaluated for the objects provided by
+	 * {@link #input(Predicate, Consumer)}. The limit of the query is advisory
+	 * for the default implementation: no more objects than the limit are pushed
+	 * to the sink and the rest are not matched, but they are still retrieved
+	 * until {@link #input(Predicate, Consumer)} completes. Implementations
+	 * pushing the query down should stop retrieving once the limit is reached.
+	 * 
+	 * @param query the query to match
+	 * @param sink  the consumer of the retrieved domain objects
+	 */
+	default void input(Query query, Consumer<? super I> sink) {
+		long limit = query.limit();
+		long[] accepted = new long[1];
+		Predicate<I> filter = i -> accepted[0] < limit;
+		Optional<Position> window = query.window();
+		if (window.isPresent()) {
+			long from = window.get().start();
+			long to = window.get().end();
+			ToLongFunction<I> start = startAsLong();
+			ToLongFunction<I> end = endAsLong();
+			filter = filter.and(i -> start.applyAsLong(i) <= to && end.applyAsLong(i) >= from);
+		}
+		for (Map.Entry<Class<?>, Set<String>> entry : query.groups().entrySet()) {
+			Function<I, String> grouping = grouping(entry.getKey());
+			Set<String> keys = entry.getValue();
+			filter = filter.and(i -> keys.contains(grouping.apply(i)));
+		}
+		input(filter, i -> {
+			if (accepted[0]++ < limit) {
+				sink.accept(i);
+			}
+		});
+	}
+
 	/**
 	 * Identification function for the domain object
 	 * 
@@ -79,4 +140,61 @@ public interface Resolution<I> {
 	 */
 	Function<I, Integer> end();
 
+	/**
+	 * Primitive start pointer function to use for representation, bridges to
+	 * {@link #start()} unless overridden
+	 * 
+	 * @return function to get start pointer
+	 */
+	default ToLongFunction<I> startAsLong() {
+		Function<I, Integer> start = start();
+		return i -> start.apply(i);
+	}
+
+	/**
+	 * Primitive end pointer function to use for representation, bridges to
+	 * {@link #end()} unless overridden
+	 * 
+	 * @return function to get end pointer
+	 */
+	default ToLongFunction<I> endAsLong() {
+		Function<I, Integer> end = end();
+		return i -> end.apply(i);
+	}
+
+	/**
+	 * Optional primitive "grouping" function to collect by groups without
+	 * creating the String keys. Must be consistent with the
+	 * {@link #grouping(Class)} function.
+	 * 
+	 * @param <G>
+	 * @param grouping
+	 * @return function to get the group key or empty
+	 */
+	default <G> Optional<ToIntFunction<I>> groupingAsInt(Class<G> grouping) {
+		return Optional.empty();
+	}
+
+	/**
+	 * The grouping types supported for the domain objects, the group keys for
+	 * them are computed once per object so switching among the hierarchies of
+	 * these types does not require to resolve them again
+	 * 
+	 * @return the supported grouping types, empty if unknown
+	 */
+	default List<Class<?>> groupings() {
+		return Collections.emptyList();
+	}
+
+	/**
+	 * The range of units covered by the whole input, lets the view scroll over
+	 * the whole input while only a window of it is retrieved. Implementations
+	 * should override it if the range is known to the storage.
+	 * 
+	 * @return the range of units of the whole input, empty if unknown
+	 */
+	default Optional<Position> extent() {
+		return Optional.empty();
+	}
+
 }
@@ -0,0 +1,55 @@
+/*******************************************************************************
+ * Copyright (c) 2020 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.chronograph.internal.api.metrics;
+
+/**
+ * 
+ * The values of the chronograph as of the last frame
+ * 
+ * @since 0.1
+ *
+ */
+public enum Gauge {
+
+	/**
+	 * The amount of bricks structured from the input
+	 */
+	BRICKS_LOADED,
+
+	/**
+	 * The amount of bricks painted by the last frame
+	 */
+	BRICKS_VISIBLE,
+
+	/**
+	 * The amount of bricks skipped by the last frame as they are outside of the
+	 * visible area
+	 */
+	BRICKS_CULLED,
+
+	/**
+	 * The amount of time window segments served from the cache so far
+	 */
+	CACHE_HITS,
+
+	/**
+	 * The amount of time window segments requested from the resolution so far
+	 */
+	CACHE_MISSES,
+
+	/**
+	 * The estimated memory retained by the loaded input, in bytes
+	 */
+	RESIDENT_BYTES
+
+}
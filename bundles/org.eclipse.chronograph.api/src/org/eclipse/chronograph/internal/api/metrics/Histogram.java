@@ -0,0 +1,57 @@
+/*******************************************************************************
+ * Copyright (c) 2020 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.chronograph.internal.api.metrics;
+
+/**
+ * 
+ * The distribution of the recent measurements of a {@link Timer}, in
+ * nanoseconds. The histogram does not change once obtained
+ * 
+ * @since 0.1
+ *
+ */
+public interface Histogram {
+
+	/**
+	 * 
+	 * @return the amount of the measurements since the start, including the ones
+	 *         that are not recent anymore
+	 */
+	long count();
+
+	/**
+	 * 
+	 * @return the minimal recent measurement or 0 if there is none
+	 */
+	long min();
+
+	/**
+	 * 
+	 * @return the maximal recent measurement or 0 if there is none
+	 */
+	long max();
+
+	/**
+	 * 
+	 * @return the mean of the recent measurements or 0 if there is none
+	 */
+	double mean();
+
+	/**
+	 * 
+	 * @param quantile the quantile from 0 to 1
+	 * @return the recent measurement at the given quantile or 0 if there is none
+	 */
+	long percentile(double quantile);
+
+}
@@ -0,0 +1,66 @@
+/*******************************************************************************
+ * Copyright (c) 2020 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.chronograph.internal.api.metrics;
+
+import java.util.function.Consumer;
+
+/**
+ * 
+ * The counters and the timings of the chronograph, can be polled at any moment
+ * or observed after every frame
+ * 
+ * @since 0.1
+ *
+ */
+public interface Metrics {
+
+	/**
+	 * 
+	 * @param gauge the gauge to read
+	 * @return the current value of the gauge
+	 */
+	long gauge(Gauge gauge);
+
+	/**
+	 * 
+	 * @param timer the timer to read
+	 * @return the distribution of the recent measurements of the timer
+	 */
+	Histogram histogram(Timer timer);
+
+	/**
+	 * 
+	 * @return the share of the time window segments served from the cache, from
+	 *         0 to 1
+	 */
+	default double cacheHitRate() {
+		long hits = gauge(Gauge.CACHE_HITS);
+		long total = hits + gauge(Gauge.CACHE_MISSES);
+		return total == 0 ? 1 : (double) hits / total;
+	}
+
+	/**
+	 * Adds the listener notified after every frame, in the thread painting the
+	 * chronograph
+	 * 
+	 * @param listener the listener to add
+	 */
+	void addListener(Consumer<Metrics> listener);
+
+	/**
+	 * 
+	 * @param listener the listener to remove
+	 */
+	void removeListener(Consumer<Metrics> listener);
+
+}
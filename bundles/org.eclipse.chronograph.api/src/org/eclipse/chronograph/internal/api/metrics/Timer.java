@@ -0,0 +1,39 @@
+/*******************************************************************************
+ * Copyright (c) 2020 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.chronograph.internal.api.metrics;
+
+/**
+ * 
+ * The phases of the chronograph measured in nanoseconds
+ * 
+ * @since 0.1
+ *
+ */
+public enum Timer {
+
+	/**
+	 * The paint of the whole frame
+	 */
+	FRAME,
+
+	/**
+	 * The computation of the areas of the sections and the groups
+	 */
+	LAYOUT,
+
+	/**
+	 * The retrieval and the structuring of the input
+	 */
+	RESTRUCTURE
+
+}
@@ -0,0 +1,218 @@
+/*******************************************************************************
+ * Copyright (c) 2020 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.chronograph.internal.base.flight;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ *
+ * {@link Flight} backed by <code>jdk.jfr</code>, loaded only if the runtime
+ * provides it. The events are created only if they are enabled in the running
+ * recording
+ *
+ */
+final class JfrFlight extends Flight {
+
+	private static final String CATEGORY = "Chronograph"; //$NON-NLS-1$
+
+	private final EventType input = EventType.getEventType(InputEvent.class);
+	private final EventType restructure = EventType.getEventType(RestructureEvent.class);
+	private final EventType layout = EventType.getEventType(LayoutEvent.class);
+	private final EventType frame = EventType.getEventType(FrameEvent.class);
+
+	@Override
+	public Input input() {
+		if (!input.isEnabled()) {
+			return Input.NONE;
+		}
+		InputEvent event = new InputEvent();
+		event.begin();
+		return event;
+	}
+
+	@Override
+	public Restructure restructure() {
+		if (!restructure.isEnabled()) {
+			return Restructure.NONE;
+		}
+		RestructureEvent event = new RestructureEvent();
+		event.begin();
+		return event;
+	}
+
+	@Override
+	public Layout layout() {
+		if (!layout.isEnabled()) {
+			return Layout.NONE;
+		}
+		LayoutEvent event = new LayoutEvent();
+		event.begin();
+		return event;
+	}
+
+	@Override
+	public Frame frame() {
+		if (!frame.isEnabled()) {
+			return Frame.NONE;
+		}
+		FrameEvent event = new FrameEvent();
+		event.begin();
+		return event;
+	}
+
+	@Name("org.eclipse.chronograph.Input")
+	@Label("Input")
+	@Category(CATEGORY)
+	@Description("Retrieval of the domain objects from the resolution")
+	static final class InputEvent extends Event implements Input {
+
+		@Label("Objects")
+		int objects;
+
+		@Override
+		public void record(int count) {
+			end();
+			if (shouldCommit()) {
+				this.objects = count;
+				commit();
+			}
+		}
+	}
+
+	@Name("org.eclipse.chronograph.Restructure")
+	@Label("Restructure")
+	@Category(CATEGORY)
+	@Description("Structuring of the input into the sections, the groups and the bricks")
+	static final class RestructureEvent extends Event implements Restructure {
+
+		@Label("Sections")
+		int sections;
+
+		@Label("Bricks")
+		int bricks;
+
+		@Override
+		public void record(int sectionCount, int brickCount) {
+			end();
+			if (shouldCommit()) {
+				this.sections = sectionCount;
+				this.bricks = brickCount;
+				commit();
+			}
+		}
+	}
+
+	@Name("org.eclipse.chronograph.Layout")
+	@Label("Layout")
+	@Category(CATEGORY)
+	@Description("Computation of the areas of the sections and the groups")
+	static final class LayoutEvent extends Event implements Layout {
+
+		@Label("Sections")
+		int sections;
+
+		@Label("Width")
+		int width;
+
+		@Label("Height")
+		int height;
+
+		@Label("Zoom")
+		int zoom;
+
+		@Override
+		public void record(int sectionCount, int clientWidth, int clientHeight, int verticalZoom) {
+			end();
+			if (shouldCommit()) {
+				this.sections = sectionCount;
+				this.width = clientWidth;
+				this.height = clientHeight;
+				this.zoom = verticalZoom;
+				commit();
+			}
+		}
+	}
+
+	@Name("org.eclipse.chronograph.Frame")
+	@Label("Frame")
+	@Category(CATEGORY)
+	@Description("Paint of the whole frame of the stage")
+	static final class FrameEvent extends Event implements Frame {
+
+		@Label("Visible Bricks")
+		int visible;
+
+		@Label("Culled Bricks")
+		int culled;
+
+		@Label("Scale")
+		double scale;
+
+		@Label("Zoom")
+		int zoom;
+
+		@Label("Stage")
+		@Timespan(Timespan.NANOSECONDS)
+		long stage;
+
+		@Label("Lines")
+		@Timespan(Timespan.NANOSECONDS)
+		long lines;
+
+		@Label("Bricks")
+		@Timespan(Timespan.NANOSECONDS)
+		long bricks;
+
+		@Label("Labels")
+		@Timespan(Timespan.NANOSECONDS)
+		long labels;
+
+		@Label("Groups")
+		@Timespan(Timespan.NANOSECONDS)
+		long groups;
+
+		@Label("Status")
+		@Timespan(Timespan.NANOSECONDS)
+		long status;
+
+		@Label("Rulers")
+		@Timespan(Timespan.NANOSECONDS)
+		long rulers;
+
+		@Override
+		public void record(int visibleCount, int culledCount, double pixels, int verticalZoom, long[] phases) {
+			end();
+			if (shouldCommit()) {
+				this.visible = visibleCount;
+				this.culled = culledCount;
+				this.scale = pixels;
+				this.zoom = verticalZoom;
+				this.stage = phases[Phase.STAGE.ordinal()];
+				this.lines = phases[Phase.LINES.ordinal()];
+				this.bricks = phases[Phase.BRICKS.ordinal()];
+				this.labels = phases[Phase.LABELS.ordinal()];
+				this.groups = phases[Phase.GROUPS.ordinal()];
+				this.status = phases[Phase.STATUS.ordinal()];
+				this.rulers = phases[Phase.RULERS.ordinal()];
+				commit();
+			}
+		}
+	}
+
+}
@@ -23,7 +23,7 @@ public class BrickImpl<D> implements Brick<D> {
 	private final Position position;
 
 	// FIXME: should we pass function to resolve everything interesting here
-	public BrickImpl(String id, int start, int end, D data) {
+	public BrickImpl(String id, long start, long end, D data) {
 		this.data = data;
 		this.id = id;
 		this.position = new PositionImpl(start, end);
@@ -0,0 +1,119 @@
+/*******************************************************************************
+ *	Copyright (c) 2020 ArSysOp
+ *
+ *	This program and the accompanying materials are made available under the
+ *	terms of the Eclipse Public License 2.0 which is available at
+ *	http://www.eclipse.org/legal/epl-2.0.
+ *
+ *	SPDX-License-Identifier: EPL-2.0
+ *
+ *	Contributors:
+ *	Sergei Kovalchuk <sergei.kovalchuk@arsysop.ru> - 
+ *												initial API and implementation
+ *******************************************************************************/
+package org.eclipse.chronograph.internal.base;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.ToLongFunction;
+
+import org.eclipse.chronograph.internal.api.data.Resolution;
+
+/**
+ * 
+ * Buffers the domain objects arriving continuously and merges them into the
+ * {@link PlainData} in batches. Objects may be offered from any thread, the
+ * merge is performed by the writer of the {@link PlainData} with the given
+ * cadence. Bricks ended before the retention window are dropped on merge. The
+ * live objects are not expected to be provided by the {@link Resolution}, the
+ * retained ones are replayed into the restructured data.
+ *
+ */
+public class LiveFeed<D> {
+
+	public static final long CADENCE_DEFAULT = 1000;
+
+	private final Queue<D> incoming = new ConcurrentLinkedQueue<>();
+	private final List<D> retained = new ArrayList<>();
+	private final ToLongFunction<D> end;
+	private final long retention;
+	private final long cadence;
+
+	/**
+	 * 
+	 * @param access    the resolution providing the functions for domain objects
+	 * @param retention the size of the retention window in units
+	 */
+	public LiveFeed(Resolution<D> access, long retention) {
+		this(access, retention, CADENCE_DEFAULT);
+	}
+
+	/**
+	 * 
+	 * @param access    the resolution providing the functions for domain objects
+	 * @param retention the size of the retention window in units
+	 * @param cadence   the interval between merges in milliseconds
+	 */
+	public LiveFeed(Resolution<D> access, long retention, long cadence) {
+		this.end = access.endAsLong();
+		this.retention = retention;
+		this.cadence = cadence;
+	}
+
+	/**
+	 * Appends the domain object to the buffer, can be called from any thread
+	 * 
+	 * @param item the arrived domain object
+	 */
+	public void offer(D item) {
+		incoming.add(item);
+	}
+
+	/**
+	 * 
+	 * @return the interval between merges in milliseconds
+	 */
+	public long cadence() {
+		return cadence;
+	}
+
+	/**
+	 * Merges the buffered objects into the target, drops the bricks ended before
+	 * the retention window and publishes the target if it was changed
+	 * 
+	 * @param target the data to merge into
+	 * @param now    the current moment in units
+	 * @return <code>true</code> if the target was changed
+	 */
+	public boolean merge(PlainData<D> target, long now) {
+		long before = now - retention;
+		boolean changed = false;
+		for (D item = incoming.poll(); item != null; item = incoming.poll()) {
+			if (end.applyAsLong(item) < before) {
+				continue;
+			}
+			retained.add(item);
+			target.ingest(item);
+			changed = true;
+		}
+		retained.removeIf(item -> end.applyAsLong(item) < before);
+		changed |= target.expire(before) > 0;
+		if (changed) {
+			target.publish();
+		}
+		return changed;
+	}
+
+	/**
+	 * Ingests the retained objects into the restructured target and publishes it
+	 * 
+	 * @param target the data to replay to
+	 */
+	public void replay(PlainData<D> target) {
+		retained.forEach(target::ingest);
+		target.publish();
+	}
+
+}
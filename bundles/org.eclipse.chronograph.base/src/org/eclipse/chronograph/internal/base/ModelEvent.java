@@ -0,0 +1,85 @@
+/*******************************************************************************
+ *	Copyright (c) 2020 ArSysOp
+ *
+ *	This program and the accompanying materials are made available under the
+ *	terms of the Eclipse Public License 2.0 which is available at
+ *	http://www.eclipse.org/legal/epl-2.0.
+ *
+ *	SPDX-License-Identifier: EPL-2.0
+ *
+ *	Contributors:
+ *	Sergei Kovalchuk <sergei.kovalchuk@arsysop.ru> - 
+ *												initial API and implementation
+ *******************************************************************************/
+package org.eclipse.chronograph.internal.base;
+
+import java.util.Optional;
+import java.util.Set;
+
+import org.eclipse.chronograph.internal.api.graphics.Position;
+
+/**
+ * 
+ * Describes the changes committed to the {@link ObservableData} in one
+ * transaction
+ *
+ */
+public final class ModelEvent {
+
+	private final long version;
+	private final Set<String> rows;
+	private final Set<String> bricks;
+	private final Position range;
+	private final boolean structural;
+
+	public ModelEvent(long version, Set<String> rows, Set<String> bricks, Position range, boolean structural) {
+		this.version = version;
+		this.rows = rows;
+		this.bricks = bricks;
+		this.range = range;
+		this.structural = structural;
+	}
+
+	/**
+	 * 
+	 * @return the version of the {@link Snapshot} published for the changes
+	 */
+	public long version() {
+		return version;
+	}
+
+	/**
+	 * 
+	 * @return the fqids of the subgroups affected by the changes
+	 */
+	public Set<String> rows() {
+		return rows;
+	}
+
+	/**
+	 * 
+	 * @return the identifiers of the changed bricks
+	 */
+	public Set<String> bricks() {
+		return bricks;
+	}
+
+	/**
+	 * 
+	 * @return the time range covering the previous and the new positions of the
+	 *         changed bricks, empty if no brick was represented
+	 */
+	public Optional<Position> range() {
+		return Optional.ofNullable(range);
+	}
+
+	/**
+	 * 
+	 * @return <code>true</code> if the changes have created new subgroups, so
+	 *         the layout should be calculated again
+	 */
+	public boolean structural() {
+		return structural;
+	}
+
+}
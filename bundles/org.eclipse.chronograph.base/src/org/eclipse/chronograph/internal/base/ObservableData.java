@@ -0,0 +1,161 @@
+/*******************************************************************************
+ *	Copyright (c) 2020 ArSysOp
+ *
+ *	This program and the accompanying materials are made available under the
+ *	terms of the Eclipse Public License 2.0 which is available at
+ *	http://www.eclipse.org/legal/epl-2.0.
+ *
+ *	SPDX-License-Identifier: EPL-2.0
+ *
+ *	Contributors:
+ *	Sergei Kovalchuk <sergei.kovalchuk@arsysop.ru> - 
+ *												initial API and implementation
+ *******************************************************************************/
+package org.eclipse.chronograph.internal.base;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.eclipse.chronograph.internal.api.data.Resolution;
+import org.eclipse.chronograph.internal.api.graphics.Brick;
+import org.eclipse.chronograph.internal.api.graphics.Group;
+import org.eclipse.chronograph.internal.api.graphics.Position;
+
+/**
+ * 
+ * Observable model over the {@link PlainData}. Changes are collected inside
+ * the transaction, several changes of the brick with the same identifier are
+ * merged into the last one, and the committed transaction is published as one
+ * {@link Snapshot} followed by one {@link ModelEvent}. Changes are expected
+ * from the writer thread of the {@link PlainData}.
+ *
+ */
+public class ObservableData<D> {
+
+	private PlainData<D> data;
+	private final Function<D, String> identification;
+	private final List<Consumer<ModelEvent>> listeners = new CopyOnWriteArrayList<>();
+	private final Map<String, Optional<D>> pending = new LinkedHashMap<>();
+	private int depth;
+
+	public ObservableData(PlainData<D> data, Resolution<D> access) {
+		this.data = data;
+		this.identification = access.identification(access.type());
+	}
+
+	public PlainData<D> data() {
+		return data;
+	}
+
+	/**
+	 * Makes the model observe the given data instead of the current one, for
+	 * instance when the data is reloaded. The listeners are kept, the pending
+	 * changes are applied to the given data.
+	 * 
+	 * @param target the data to observe
+	 */
+	public void retarget(PlainData<D> target) {
+		this.data = target;
+	}
+
+	public void addListener(Consumer<ModelEvent> listener) {
+		listeners.add(listener);
+	}
+
+	public void removeListener(Consumer<ModelEvent> listener) {
+		listeners.remove(listener);
+	}
+
+	/**
+	 * Starts the transaction, transactions may be nested
+	 */
+	public void begin() {
+		depth++;
+	}
+
+	/**
+	 * Commits the transaction, the changes are applied when the outermost one is
+	 * committed
+	 */
+	public void commit() {
+		if (depth > 0 && --depth > 0) {
+			return;
+		}
+		apply();
+	}
+
+	/**
+	 * Runs the given changes in one transaction
+	 * 
+	 * @param changes the changes to run
+	 */
+	public void transaction(Runnable changes) {
+		begin();
+		try {
+			changes.run();
+		} finally {
+			commit();
+		}
+	}
+
+	/**
+	 * Adds the domain object or replaces the bricks with its identifier
+	 * 
+	 * @param item the domain object to put
+	 */
+	public void put(D item) {
+		pending.put(identification.apply(item), Optional.of(item));
+		if (depth == 0) {
+			apply();
+		}
+	}
+
+	/**
+	 * Removes the bricks with the given identifier
+	 * 
+	 * @param id the identifier of the brick
+	 */
+	public void remove(String id) {
+		pending.put(id, Optional.empty());
+		if (depth == 0) {
+			apply();
+		}
+	}
+
+	private void apply() {
+		if (pending.isEmpty()) {
+			return;
+		}
+		Snapshot<D> before = data.snapshot();
+		Set<String> rows = new LinkedHashSet<>();
+		long[] range = { Long.MAX_VALUE, Long.MIN_VALUE };
+		boolean[] structural = { false };
+		BiConsumer<Group, Brick<D>> affected = (row, brick) -> {
+			rows.add(row.fqid());
+			range[0] = Math.min(range[0], brick.position().start());
+			range[1] = Math.max(range[1], brick.position().end());
+			structural[0] |= !before.contains(row);
+		};
+		Set<String> ids = new LinkedHashSet<>(pending.keySet());
+		data.remove(ids, affected);
+		for (Optional<D> item : pending.values()) {
+			item.ifPresent(i -> data.ingest(i, affected));
+		}
+		pending.clear();
+		Snapshot<D> after = data.publish();
+		Position position = rows.isEmpty() ? null : new PositionImpl(range[0], range[1]);
+		ModelEvent event = new ModelEvent(after.version(), Collections.unmodifiableSet(rows),
+				Collections.unmodifiableSet(ids), position, structural[0]);
+		listeners.forEach(listener -> listener.accept(event));
+	}
+
+}
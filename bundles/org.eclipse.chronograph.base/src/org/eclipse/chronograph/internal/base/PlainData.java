@@ -14,61 +14,131 @@
 
 package org.eclipse.chronograph.internal.base;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.Comparator;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
+import org.eclipse.chronograph.internal.api.data.Query;
 import org.eclipse.chronograph.internal.api.data.Resolution;
 import org.eclipse.chronograph.internal.api.graphics.Brick;
 import org.eclipse.chronograph.internal.api.graphics.Group;
 import org.eclipse.chronograph.internal.api.graphics.Position;
+import org.eclipse.chronograph.internal.base.data.QueryImpl;
+import org.eclipse.chronograph.internal.base.flight.Flight;
 
 /**
- * Class intended to aggregate data
+ * Class intended to aggregate data. The data is structured by one writer at a
+ * time and published as an immutable {@link Snapshot}, the reading methods use
+ * the last published snapshot and can be called from any thread.
  *
  */
 public class PlainData<D> {
 
+	/**
+	 * The default minimal amount of input objects to structure them in parallel
+	 */
+	public static final int PARALLEL_THRESHOLD = 50_000;
+	private static final int PARTITION_MIN = 1_024;
+	/**
+	 * The amount of input objects above the threshold collected before their
+	 * parallel computation is started
+	 */
+	private static final int BATCH_SIZE = 16 * PARTITION_MIN;
+	/**
+	 * The amount of records to publish the first partial snapshot for
+	 */
+	private static final int PROGRESS_FIRST = 1_000;
+
 	private final Resolution<D> access;
+	private final int parallelThreshold;
 	private final List<Class<?>> structure;
-	private final Map<String, Group> sectionsById = new HashMap<>();
+	private final Map<String, Group> sectionsById = new LinkedHashMap<>();
 	private final Map<String, List<Group>> groupsBySection = new HashMap<>();
 	private final Map<Group, List<Group>> subGroupsBygroup = new HashMap<>();
 	private final Map<Group, List<Brick<D>>> bricksBySubgroup = new HashMap<>();
+	private final Map<Object, Group> sectionsByKey = new HashMap<>();
+	private final Map<Group, Map<Object, Group>> childrenByKey = new HashMap<>();
+	private final List<Level<D>> levels = new ArrayList<>();
+	private final List<Record<D>> records = new ArrayList<>();
+	private final Map<Class<?>, Column<D>> columns = new LinkedHashMap<>();
+	private Function<D, String> identification;
+	private ToLongFunction<D> start;
+	private ToLongFunction<D> end;
+	private final Set<String> dirtySections = new HashSet<>();
+	private final Set<Group> dirtyGroups = new HashSet<>();
+	private final Set<Group> dirtySubgroups = new HashSet<>();
+	private final AtomicReference<Snapshot<D>> snapshot = new AtomicReference<>(Snapshot.empty());
+	private boolean rebuilt;
+	private volatile Query inputQuery = QueryImpl.all();
 
 	public PlainData(Resolution<D> access) {
+		this(access, PARALLEL_THRESHOLD);
+	}
+
+	/**
+	 * 
+	 * @param access            the resolution to retrieve input from
+	 * @param parallelThreshold the minimal amount of input objects to structure
+	 *                          them in parallel
+	 */
+	public PlainData(Resolution<D> access, int parallelThreshold) {
 		this.access = access;
+		this.parallelThreshold = parallelThreshold;
 		this.structure = new ArrayList<>();
 	}
 
+	/**
+	 * 
+	 * @return the last published snapshot
+	 */
+	public Snapshot<D> snapshot() {
+		return snapshot.get();
+	}
+
 	public List<Group> groups() {
-		return new ArrayList<>(sectionsById.values());
+		return snapshot().groups();
 	}
 
 	public List<Group> subGroups(Group section) {
-		return groupsBySection.getOrDefault(section.id(), Collections.emptyList());
+		return snapshot().subGroups(section);
 	}
 
 	public List<Group> getSubGroupByGroupSection(Group group) {
-		return subGroupsBygroup.getOrDefault(group, Collections.emptyList());
+		return snapshot().getSubGroupByGroupSection(group);
 	}
 
-	// FIXME: most probably does not work as expected
 	public List<Brick<D>> getBrickBySubgroup(String subgroupId, String groupId, String sectionId) {
-		if (!sectionId.isEmpty()) {
-			Group section = sectionsById.get(sectionId);
-			List<Group> groups = groupsBySection.get(section.id());
-			for (Group group : groups) {
+		Snapshot<D> current = snapshot();
+		for (Group section : current.groups()) {
+			if (!section.id().equals(sectionId)) {
+				continue;
+			}
+			for (Group group : current.subGroups(section)) {
 				if (group.id().equals(groupId)) {
-					List<Group> subGroups = subGroupsBygroup.get(group);
-					for (Group subGroup : subGroups) {
-						return bricksBySubgroup.get(subGroup);
+					for (Group subGroup : current.getSubGroupByGroupSection(group)) {
+						if (subGroup.id().equals(subgroupId)) {
+							return current.bricks(subGroup);
+						}
 					}
 				}
 			}
@@ -76,90 +146,640 @@ public class PlainData<D> {
 		return new ArrayList<>();
 	}
 
+	public List<Brick<D>> bricks(Group subgroup) {
+		return snapshot().bricks(subgroup);
+	}
+
 	public List<Brick<D>> query(Predicate<Brick<D>> predicate) {
-		return bricksBySubgroup.values().stream() //
-				.flatMap(List::stream) //
-				.filter(predicate) //
-				.collect(Collectors.toList());
+		return snapshot().query(predicate);
+	}
+
+	/**
+	 * 
+	 * @return the amount of the structured records, intended for the writer
+	 */
+	public int size() {
+		return records.size();
 	}
 
 	public Optional<Position> getMaxBrickPosition() {
-		return bricksBySubgroup.values().stream() //
-				.flatMap(List::stream) //
-				.map(Brick::position) //
-				.max(new Comparator<Position>() {
-					@Override
-					public int compare(Position o1, Position o2) {
-						if (o1.end() > o2.end()) {
-							return 1;
-						}
-						return 0;
-					}
-				});
+		return snapshot().getMaxBrickPosition();
 	}
 
 	public void restructure(List<Class<?>> types) {
+		restructure(types, QueryImpl.all());
+	}
+
+	/**
+	 * Structures the part of the input matching the given query
+	 * 
+	 * @param types the types to group the input
+	 * @param query the query to request the input
+	 */
+	public void restructure(List<Class<?>> types, Query query) {
+		restructure(types, query, null);
+	}
+
+	/**
+	 * Structures the part of the input matching the given query and publishes
+	 * the partial snapshots while the input is streamed, so the first rows can be
+	 * represented before the input is retrieved completely. The partial snapshot
+	 * is published when the amount of the records is doubled, so the publishing
+	 * costs about one more copy of the indexes in total.
+	 * 
+	 * @param types    the types to group the input
+	 * @param query    the query to request the input
+	 * @param progress the consumer of the partial snapshots, called on the
+	 *                 calling thread, or <code>null</code>
+	 */
+	public void restructure(List<Class<?>> types, Query query, Consumer<Snapshot<D>> progress) {
+		Flight.Restructure flight = Flight.recorder().restructure();
 		clear();
+		inputQuery = query;
+		if (!levels(types)) {
+			publish();
+			flight.record(0, 0);
+			return;
+		}
+		identification = access.identification(access.type());
+		start = access.startAsLong();
+		end = access.endAsLong();
+		for (Class<?> type : access.groupings()) {
+			column(type);
+		}
+		Flight.Input retrieval = Flight.recorder().input();
+		Ingestion ingestion = new Ingestion(progress);
+		access.input(query, ingestion);
+		ingestion.finish();
+		retrieval.record(ingestion.count);
+		publish();
+		flight.record(sectionsById.size(), records.size());
+	}
+
+	/**
+	 * Ingests the streamed input serially up to the parallel threshold, the rest
+	 * is collected into batches and the records and the group keys for every
+	 * batch are computed in parallel while the input is still streamed. The
+	 * partials are merged in their order, so the order of groups and bricks is
+	 * the same as for the serial ingestion. The functions of the
+	 * {@link Resolution} are called concurrently.
+	 *
+	 */
+	private final class Ingestion implements Consumer<D> {
+
+		private final Deque<ForkJoinTask<List<Partial<D>>>> pending = new ArrayDeque<>();
+		private final Consumer<Snapshot<D>> progress;
+		private List<Column<D>> resolved;
+		private List<D> batch;
+		private int count;
+		private int milestone = PROGRESS_FIRST;
+
+		Ingestion(Consumer<Snapshot<D>> progress) {
+			this.progress = progress;
+		}
+
+		@Override
+		public void accept(D item) {
+			count++;
+			if (count <= parallelThreshold) {
+				ingest(item);
+				progress();
+				return;
+			}
+			if (batch == null) {
+				resolved = new ArrayList<>(columns.values());
+				batch = new ArrayList<>(BATCH_SIZE);
+			}
+			batch.add(item);
+			if (batch.size() == BATCH_SIZE) {
+				submit();
+				merge(false);
+			}
+		}
+
+		void finish() {
+			if (batch != null && !batch.isEmpty()) {
+				submit();
+			}
+			merge(true);
+		}
+
+		private void submit() {
+			pending.add(ForkJoinPool.commonPool().submit(new Partition(batch, 0, batch.size(), resolved)));
+			batch = new ArrayList<>(BATCH_SIZE);
+		}
+
+		/**
+		 * Merges the computed partials in their order, the batches computed ahead
+		 * of an unfinished one wait for it
+		 */
+		private void merge(boolean wait) {
+			while (!pending.isEmpty() && (wait || pending.peek().isDone())) {
+				for (Partial<D> done : pending.poll().join()) {
+					PlainData.this.merge(done);
+				}
+				if (!wait) {
+					progress();
+				}
+			}
+		}
+
+		private void progress() {
+			if (progress == null || records.size() < milestone) {
+				return;
+			}
+			milestone = records.size() * 2;
+			progress.accept(publish());
+		}
+	}
+
+	private void merge(Partial<D> partial) {
+		records.addAll(partial.records);
+		for (List<Record<D>> batch : partial.batches.values()) {
+			Group row = row(batch.get(0));
+			if (row == null) {
+				continue;
+			}
+			List<Brick<D>> bricks = rowBricks(row);
+			for (Record<D> record : batch) {
+				record.row = row;
+				bricks.add(record.brick);
+			}
+		}
+	}
+
+	/**
+	 * Structures the records already retrieved by the given types, the input is
+	 * not requested again and the group keys computed before are reused
+	 * 
+	 * @param types the types to group the input
+	 */
+	public void regroup(List<Class<?>> types) {
+		clearIndexes();
+		if (levels(types)) {
+			for (Record<D> record : records) {
+				index(record);
+			}
+		}
+		publish();
+	}
+
+	/**
+	 * Publishes the current state as the next {@link Snapshot}. The lists that
+	 * were not changed since the previous publication are shared with it, while
+	 * the maps of the lists and every changed list are copied in full. So the
+	 * cost of the publication grows with the amount of the rows and with the
+	 * size of the changed rows, not with the size of the change.
+	 * 
+	 * @return the published snapshot
+	 */
+	public Snapshot<D> publish() {
+		Snapshot<D> previous = snapshot.get();
+		Snapshot<D> next;
+		if (rebuilt) {
+			next = new Snapshot<>(previous.version() + 1, //
+					Collections.unmodifiableList(new ArrayList<>(structure)), //
+					Collections.unmodifiableList(new ArrayList<>(sectionsById.values())), //
+					share(Collections.emptyMap(), groupsBySection, groupsBySection.keySet()), //
+					share(Collections.emptyMap(), subGroupsBygroup, subGroupsBygroup.keySet()), //
+					share(Collections.emptyMap(), bricksBySubgroup, bricksBySubgroup.keySet()));
+		} else {
+			next = new Snapshot<>(previous.version() + 1, //
+					previous.structure(), //
+					dirtySections.isEmpty() && previous.groups().size() == sectionsById.size() ? previous.groups()
+							: Collections.unmodifiableList(new ArrayList<>(sectionsById.values())), //
+					share(previous.groupsBySection(), groupsBySection, dirtySections), //
+					share(previous.subGroupsBygroup(), subGroupsBygroup, dirtyGroups), //
+					share(previous.bricksBySubgroup(), bricksBySubgroup, dirtySubgroups));
+		}
+		rebuilt = false;
+		dirtySections.clear();
+		dirtyGroups.clear();
+		dirtySubgroups.clear();
+		snapshot.set(next);
+		return next;
+	}
+
+	private static <K, V> Map<K, List<V>> share(Map<K, List<V>> previous, Map<K, List<V>> current, Set<K> dirty) {
+		if (dirty.isEmpty()) {
+			return previous;
+		}
+		Map<K, List<V>> next = new HashMap<>(previous);
+		for (K key : dirty) {
+			next.put(key, Collections.unmodifiableList(new ArrayList<>(current.get(key))));
+		}
+		return Collections.unmodifiableMap(next);
+	}
+
+	private boolean levels(List<Class<?>> types) {
 		if (types.size() < 3) {
 			// FIXME: we should be more flexible and the code below can really be
 			// generalized
-			return;
+			return false;
 		}
 		structure.addAll(types);
-		Predicate<D> filter = (Predicate<D>) t -> true; // FIXME: support filters
-		List<D> input = access.input().apply(filter);
-		@SuppressWarnings("unchecked")
-		Class<Object> type0 = (Class<Object>) types.get(0);
-		@SuppressWarnings("unchecked")
-		Class<Object> type1 = (Class<Object>) types.get(1);
+		for (int i = 0; i < 3; i++) {
+			levels.add(new Level<>(column(types.get(i)), i));
+		}
+		return true;
+	}
+
+	private Column<D> column(Class<?> type) {
+		return columns.computeIfAbsent(type, t -> new Column<>(access, t, columns.size()));
+	}
+
+	/**
+	 * Adds the given domain object to the record table and to the indexes
+	 * according to the current structure. The indexes are consistent after every
+	 * ingested object, so the data can be represented while the input is still
+	 * being retrieved by calling {@link #publish()}.
+	 * 
+	 * @param item the domain object to add
+	 */
+	public void ingest(D item) {
+		ingest(item, (row, brick) -> {
+		});
+	}
+
+	/**
+	 * Adds the given domain object as {@link #ingest(Object)} does and reports
+	 * the brick created for it along with the subgroup it is placed to
+	 * 
+	 * @param item  the domain object to add
+	 * @param added the consumer of the subgroup and the brick
+	 */
+	public void ingest(D item, BiConsumer<Group, Brick<D>> added) {
+		if (levels.isEmpty()) {
+			return;
+		}
+		Record<D> record = record(item, columns.values());
+		records.add(record);
+		index(record);
+		if (record.row != null) {
+			added.accept(record.row, record.brick);
+		}
+	}
+
+	/**
+	 * Removes the bricks with the given identifiers, the groups are kept. Call
+	 * {@link #publish()} to make the removal visible.
+	 * 
+	 * @param ids     the identifiers of the bricks to remove
+	 * @param removed the consumer of the subgroup and the removed brick
+	 */
+	public void remove(Set<String> ids, BiConsumer<Group, Brick<D>> removed) {
+		if (ids.isEmpty()) {
+			return;
+		}
+		records.removeIf(record -> {
+			if (!ids.contains(record.brick.id())) {
+				return false;
+			}
+			if (record.row != null) {
+				bricksBySubgroup.get(record.row).remove(record.brick);
+				dirtySubgroups.add(record.row);
+				removed.accept(record.row, record.brick);
+			}
+			return true;
+		});
+	}
+
+	private Record<D> record(D item, Collection<Column<D>> resolved) {
+		Record<D> record = new Record<>(
+				new BrickImpl<>(identification.apply(item), start.applyAsLong(item), end.applyAsLong(item), item),
+				resolved.size());
+		for (Column<D> column : resolved) {
+			record.key(column);
+		}
+		return record;
+	}
+
+	/**
+	 * Removes the bricks ended before the given unit, the groups are kept. Call
+	 * {@link #publish()} to make the removal visible. All the records and the
+	 * rows are scanned, whatever the amount of the expired bricks is.
+	 * 
+	 * @param before the unit to remove the bricks ended before
+	 * @return the amount of removed bricks
+	 */
+	public int expire(long before) {
+		int size = records.size();
+		records.removeIf(record -> record.brick.position().end() < before);
+		for (Map.Entry<Group, List<Brick<D>>> entry : bricksBySubgroup.entrySet()) {
+			if (entry.getValue().removeIf(brick -> brick.position().end() < before)) {
+				dirtySubgroups.add(entry.getKey());
+			}
+		}
+		return size - records.size();
+	}
+
+	private void index(Record<D> record) {
+		record.row = row(record);
+		if (record.row != null) {
+			rowBricks(record.row).add(record.brick);
+		}
+	}
+
+	private List<Brick<D>> rowBricks(Group row) {
+		dirtySubgroups.add(row);
+		return bricksBySubgroup.computeIfAbsent(row, g -> new ArrayList<>());
+	}
+
+	/**
+	 * Finds or creates the groups for the given record
+	 * 
+	 * @return the subgroup for the record or <code>null</code> if the record is
+	 *         not represented
+	 */
+	private Group row(Record<D> record) {
+		Group section = section(levels.get(0), record);
+		if (section == null) {
+			return null;
+		}
+		Group group = child(levels.get(1), section, record);
+		if (group == null) {
+			return null;
+		}
+		Group subgroup = child(levels.get(2), group, record);
+		return subgroup;
+	}
+
+	private Group section(Level<D> level, Record<D> record) {
+		Object key = level.key(record);
+		Group section = sectionsByKey.get(key);
+		if (section == null) {
+			section = level.group(record, ""); //$NON-NLS-1$
+			if (section == null) {
+				return null;
+			}
+			sectionsByKey.put(key, section);
+			sectionsById.put(section.id(), section);
+			dirtySections.add(section.id());
+		}
+		return section;
+	}
+
+	private Group child(Level<D> level, Group parent, Record<D> record) {
+		Object key = level.key(record);
+		Map<Object, Group> children = childrenByKey.computeIfAbsent(parent, p -> new HashMap<>());
+		Group child = children.get(key);
+		if (child == null) {
+			child = level.group(record, parent.fqid());
+			if (child == null) {
+				return null;
+			}
+			children.put(key, child);
+			if (parent.level() == 0) {
+				groupsBySection.computeIfAbsent(parent.id(), p -> new ArrayList<>()).add(child);
+				dirtySections.add(parent.id());
+			} else {
+				subGroupsBygroup.computeIfAbsent(parent, p -> new ArrayList<>()).add(child);
+				dirtyGroups.add(parent);
+			}
+		}
+		return child;
+	}
+
+	/**
+	 * Functions of the {@link Resolution} resolved once for the grouping type,
+	 * along with the group objects resolved by the group key. The int group keys
+	 * are interned, so every distinct key is boxed once and the records share it.
+	 *
+	 */
+	private static final class Column<D> {
+
+		private static final int INTERNED_INITIAL = 64;
+
+		private final int slot;
+		private final Function<D, String> grouping;
+		private final ToIntFunction<D> intGrouping;
+		private final Function<D, Optional<Object>> adapt;
+		private final Function<Object, String> identification;
+		private final Map<Object, Optional<Entity>> groups = new HashMap<>();
+		/**
+		 * Open addressing table of the int keys, read without locking and written
+		 * under the column monitor, since the keys are computed in parallel
+		 */
+		private volatile Integer[] interned = new Integer[INTERNED_INITIAL];
+		private int internedCount;
+
 		@SuppressWarnings("unchecked")
-		Class<Object> type2 = (Class<Object>) types.get(2);
-		Map<String, List<D>> grouping0 = input.stream().collect(Collectors.groupingBy(access.grouping(type0)));
-		Map<String, List<D>> grouping1 = input.stream().collect(Collectors.groupingBy(access.grouping(type1)));
-		Map<String, List<D>> grouping2 = input.stream().collect(Collectors.groupingBy(access.grouping(type2)));
-		String id00 = ""; //$NON-NLS-1$
-		List<Group> sections = input.stream().map(access.adapt(type0))//
-				.filter(Optional::isPresent)//
-				.map(Optional::get)//
-				.distinct()//
-				.map(d -> new GroupImpl(access.identification(type0).apply(d), id00, 0, d))//
-				.collect(Collectors.toList());
-		for (Group group0 : sections) {
-			String id0 = group0.id();
-			List<D> g0 = grouping0.getOrDefault(group0.id(), Collections.emptyList());
-			sectionsById.put(id0, group0);
-			List<Group> groups1 = input.stream().map(access.adapt(type1))//
-					.filter(Optional::isPresent)//
-					.map(Optional::get)//
-					.distinct()//
-					.map(d -> new GroupImpl(access.identification(type1).apply(d), id0, 1, d))//
-					.collect(Collectors.toList());
-			groupsBySection.put(group0.id(), groups1);
-			for (Group group1 : groups1) {
-				String id1 = group1.id();
-				List<D> g1 = grouping1.getOrDefault(id1, Collections.emptyList());
-				List<Group> groups2 = input.stream().map(access.adapt(type2))//
-						.filter(Optional::isPresent)//
-						.map(Optional::get)//
-						.distinct()//
-						.map(d -> new GroupImpl(access.identification(type2).apply(d), id1, 2, d))//
-						.collect(Collectors.toList());
-				subGroupsBygroup.put(group1, groups2);
-				for (Group group2 : groups2) {
-					List<Brick<D>> bricks = grouping2.getOrDefault(group2.id(), Collections.emptyList()).stream()//
-							.filter(g0::contains)//
-							.filter(g1::contains)//
-							.map(i -> new BrickImpl<>(access.identification(access.type()).apply(i),
-									access.start().apply(i), access.end().apply(i), i))//
-							.collect(Collectors.toList());
-					bricksBySubgroup.put(group2, bricks);
+		Column(Resolution<D> access, Class<?> type, int slot) {
+			this.slot = slot;
+			this.grouping = access.grouping(type);
+			this.intGrouping = access.groupingAsInt(type).orElse(null);
+			this.adapt = access.adapt((Class<Object>) type);
+			this.identification = access.identification((Class<Object>) type);
+		}
+
+		Object key(D item) {
+			if (intGrouping != null) {
+				return intern(intGrouping.applyAsInt(item));
+			}
+			return grouping.apply(item);
+		}
+
+		private Integer intern(int key) {
+			Integer found = find(interned, key);
+			if (found != null) {
+				return found;
+			}
+			synchronized (this) {
+				Integer[] table = interned;
+				found = find(table, key);
+				if (found != null) {
+					return found;
+				}
+				found = Integer.valueOf(key);
+				if ((internedCount + 1) * 2 > table.length) {
+					Integer[] grown = new Integer[table.length * 2];
+					for (Integer existing : table) {
+						if (existing != null) {
+							grown[free(grown, existing.intValue())] = existing;
+						}
+					}
+					grown[free(grown, key)] = found;
+					interned = grown;
+				} else {
+					table[free(table, key)] = found;
+				}
+				internedCount++;
+				return found;
+			}
+		}
+
+		private static Integer find(Integer[] table, int key) {
+			int mask = table.length - 1;
+			for (int i = slot(key, mask);; i = (i + 1) & mask) {
+				Integer candidate = table[i];
+				if (candidate == null || candidate.intValue() == key) {
+					return candidate;
+				}
+			}
+		}
+
+		private static int free(Integer[] table, int key) {
+			int mask = table.length - 1;
+			int i = slot(key, mask);
+			while (table[i] != null) {
+				i = (i + 1) & mask;
+			}
+			return i;
+		}
+
+		private static int slot(int key, int mask) {
+			int hash = key * 0x9E3779B9;
+			return (hash ^ (hash >>> 16)) & mask;
+		}
+
+		Optional<Entity> group(Object key, D item) {
+			return groups.computeIfAbsent(key,
+					k -> adapt.apply(item).map(data -> new Entity(identification.apply(data), data)));
+		}
+	}
+
+	/**
+	 * Computes the records for the range of the input batch, splitting it in
+	 * halves until it fits the partition size. The partials are returned in the
+	 * input order.
+	 *
+	 */
+	private final class Partition extends RecursiveTask<List<Partial<D>>> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final List<D> input;
+		private final int from;
+		private final int to;
+		private final List<Column<D>> resolved;
+
+		Partition(List<D> input, int from, int to, List<Column<D>> resolved) {
+			this.input = input;
+			this.from = from;
+			this.to = to;
+			this.resolved = resolved;
+		}
+
+		@Override
+		protected List<Partial<D>> compute() {
+			if (to - from <= PARTITION_MIN) {
+				Partial<D> partial = new Partial<>();
+				for (int i = from; i < to; i++) {
+					Record<D> record = record(input.get(i), resolved);
+					partial.records.add(record);
+					List<Object> path = new ArrayList<>(levels.size());
+					for (Level<D> level : levels) {
+						path.add(level.key(record));
+					}
+					partial.batches.computeIfAbsent(path, p -> new ArrayList<>()).add(record);
 				}
+				List<Partial<D>> partials = new ArrayList<>();
+				partials.add(partial);
+				return partials;
 			}
+			int middle = (from + to) >>> 1;
+			Partition left = new Partition(input, from, middle, resolved);
+			Partition right = new Partition(input, middle, to, resolved);
+			left.fork();
+			List<Partial<D>> partials = right.compute();
+			partials.addAll(0, left.join());
+			return partials;
+		}
+	}
+
+	/**
+	 * The records of the input partition, grouped by the keys of the levels in
+	 * the order of appearance
+	 *
+	 */
+	private static final class Partial<D> {
+
+		private final List<Record<D>> records = new ArrayList<>();
+		private final Map<List<Object>, List<Record<D>>> batches = new LinkedHashMap<>();
+	}
+
+	/**
+	 * The group object resolved for the group key
+	 *
+	 */
+	private static final class Entity {
+
+		private final String id;
+		private final Object data;
+
+		Entity(String id, Object data) {
+			this.id = id;
+			this.data = data;
+		}
+	}
+
+	/**
+	 * The grouping level of the current structure
+	 *
+	 */
+	private static final class Level<D> {
+
+		private final Column<D> column;
+		private final int level;
+
+		Level(Column<D> column, int level) {
+			this.column = column;
+			this.level = level;
+		}
+
+		Object key(Record<D> record) {
+			return record.key(column);
+		}
+
+		Group group(Record<D> record, String parent) {
+			Optional<Entity> group = column.group(record.key(column), record.brick.data());
+			if (!group.isPresent()) {
+				return null;
+			}
+			return new GroupImpl(group.get().id, parent, level, group.get().data);
+		}
+	}
+
+	/**
+	 * The retrieved domain object with its group keys computed so far
+	 *
+	 */
+	private static final class Record<D> {
+
+		private final Brick<D> brick;
+		private Object[] keys;
+		private Group row;
+
+		Record(Brick<D> brick, int columns) {
+			this.brick = brick;
+			this.keys = new Object[columns];
+		}
+
+		Object key(Column<D> column) {
+			if (column.slot >= keys.length) {
+				keys = Arrays.copyOf(keys, column.slot + 1);
+			}
+			Object key = keys[column.slot];
+			if (key == null) {
+				key = column.key(brick.data());
+				keys[column.slot] = key;
+			}
+			return key;
 		}
 	}
 
 	public void clear() {
+		records.clear();
+		columns.clear();
+		clearIndexes();
+	}
+
+	private void clearIndexes() {
+		rebuilt = true;
 		structure.clear();
+		levels.clear();
+		sectionsByKey.clear();
+		childrenByKey.clear();
 		bricksBySubgroup.clear();
 		groupsBySection.clear();
 		sectionsById.clear();
@@ -167,6 +787,14 @@ public class PlainData<D> {
 	}
 
 	public List<Class<?>> structure() {
-		return new ArrayList<Class<?>>(structure);
+		return new ArrayList<Class<?>>(snapshot().structure());
+	}
+
+	/**
+	 * 
+	 * @return the query used to request the current input
+	 */
+	public Query inputQuery() {
+		return inputQuery;
 	}
 }
@@ -0,0 +1,125 @@
+/*******************************************************************************
+ *	Copyright (c) 2020 ArSysOp
+ *
+ *	This program and the accompanying materials are made available under the
+ *	terms of the Eclipse Public License 2.0 which is available at
+ *	http://www.eclipse.org/legal/epl-2.0.
+ *
+ *	SPDX-License-Identifier: EPL-2.0
+ *
+ *	Contributors:
+ *	Sergei Kovalchuk <sergei.kovalchuk@arsysop.ru> - 
+ *												initial API and implementation
+ *******************************************************************************/
+package org.eclipse.chronograph.internal.base;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.eclipse.chronograph.internal.api.graphics.Brick;
+import org.eclipse.chronograph.internal.api.graphics.Group;
+import org.eclipse.chronograph.internal.api.graphics.Position;
+
+/**
+ * 
+ * Immutable version of the structured data published by {@link PlainData}.
+ * Snapshots can be read from any thread without locking, the consecutive
+ * versions share the lists that were not changed.
+ *
+ */
+public final class Snapshot<D> {
+
+	private static final Snapshot<?> EMPTY = new Snapshot<>(0, Collections.emptyList(), Collections.emptyList(),
+			Collections.emptyMap(), Collections.emptyMap(), Collections.emptyMap());
+
+	private final long version;
+	private final List<Class<?>> structure;
+	private final List<Group> sections;
+	private final Map<String, List<Group>> groupsBySection;
+	private final Map<Group, List<Group>> subGroupsBygroup;
+	private final Map<Group, List<Brick<D>>> bricksBySubgroup;
+
+	Snapshot(long version, List<Class<?>> structure, List<Group> sections, Map<String, List<Group>> groupsBySection,
+			Map<Group, List<Group>> subGroupsBygroup, Map<Group, List<Brick<D>>> bricksBySubgroup) {
+		this.version = version;
+		this.structure = structure;
+		this.sections = sections;
+		this.groupsBySection = groupsBySection;
+		this.subGroupsBygroup = subGroupsBygroup;
+		this.bricksBySubgroup = bricksBySubgroup;
+	}
+
+	@SuppressWarnings("unchecked")
+	public static <D> Snapshot<D> empty() {
+		return (Snapshot<D>) EMPTY;
+	}
+
+	/**
+	 * 
+	 * @return the number of the version, increased with every publication
+	 */
+	public long version() {
+		return version;
+	}
+
+	public List<Class<?>> structure() {
+		return structure;
+	}
+
+	public List<Group> groups() {
+		return sections;
+	}
+
+	public List<Group> subGroups(Group section) {
+		return groupsBySection.getOrDefault(section.id(), Collections.emptyList());
+	}
+
+	public List<Group> getSubGroupByGroupSection(Group group) {
+		return subGroupsBygroup.getOrDefault(group, Collections.emptyList());
+	}
+
+	/**
+	 * 
+	 * @param subgroup the subgroup to check
+	 * @return <code>true</code> if the subgroup has the bricks in this version
+	 */
+	public boolean contains(Group subgroup) {
+		return bricksBySubgroup.containsKey(subgroup);
+	}
+
+	public List<Brick<D>> bricks(Group subgroup) {
+		return bricksBySubgroup.getOrDefault(subgroup, Collections.emptyList());
+	}
+
+	public List<Brick<D>> query(Predicate<Brick<D>> predicate) {
+		return bricksBySubgroup.values().stream() //
+				.flatMap(List::stream) //
+				.filter(predicate) //
+				.collect(Collectors.toList());
+	}
+
+	public Optional<Position> getMaxBrickPosition() {
+		return bricksBySubgroup.values().stream() //
+				.flatMap(List::stream) //
+				.map(Brick::position) //
+				.max(Comparator.comparingLong(Position::end));
+	}
+
+	Map<String, List<Group>> groupsBySection() {
+		return groupsBySection;
+	}
+
+	Map<Group, List<Group>> subGroupsBygroup() {
+		return subGroupsBygroup;
+	}
+
+	Map<Group, List<Brick<D>>> bricksBySubgroup() {
+		return bricksBySubgroup;
+	}
+
+}
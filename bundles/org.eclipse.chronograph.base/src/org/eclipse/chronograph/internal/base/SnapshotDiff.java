@@ -0,0 +1,120 @@
+/*******************************************************************************
+ *	Copyright (c) 2020 ArSysOp
+ *
+ *	This program and the accompanying materials are made available under the
+ *	terms of the Eclipse Public License 2.0 which is available at
+ *	http://www.eclipse.org/legal/epl-2.0.
+ *
+ *	SPDX-License-Identifier: EPL-2.0
+ *
+ *	Contributors:
+ *	Sergei Kovalchuk <sergei.kovalchuk@arsysop.ru> - 
+ *												initial API and implementation
+ *******************************************************************************/
+package org.eclipse.chronograph.internal.base;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.chronograph.internal.api.graphics.Brick;
+import org.eclipse.chronograph.internal.api.graphics.Group;
+import org.eclipse.chronograph.internal.api.graphics.Position;
+
+/**
+ * 
+ * The keyed difference between two {@link Snapshot}s: groups are matched by
+ * fqid and bricks by identifier, so the layout of the groups can survive the
+ * restructure and only the changed rows are redrawn
+ *
+ */
+public final class SnapshotDiff {
+
+	private final boolean treeChanged;
+	private final Set<String> changedRows;
+
+	private SnapshotDiff(boolean treeChanged, Set<String> changedRows) {
+		this.treeChanged = treeChanged;
+		this.changedRows = changedRows;
+	}
+
+	public static <D> SnapshotDiff between(Snapshot<D> previous, Snapshot<D> next) {
+		Map<String, List<Brick<D>>> before = rows(previous);
+		Map<String, List<Brick<D>>> after = rows(next);
+		boolean treeChanged = !new ArrayList<>(before.keySet()).equals(new ArrayList<>(after.keySet()));
+		Set<String> changed = new LinkedHashSet<>();
+		for (Map.Entry<String, List<Brick<D>>> entry : after.entrySet()) {
+			List<Brick<D>> old = before.get(entry.getKey());
+			if (old == null || !same(old, entry.getValue())) {
+				changed.add(entry.getKey());
+			}
+		}
+		for (String fqid : before.keySet()) {
+			if (!after.containsKey(fqid)) {
+				changed.add(fqid);
+			}
+		}
+		return new SnapshotDiff(treeChanged, Collections.unmodifiableSet(changed));
+	}
+
+	/**
+	 * Walks the group tree in the order of representation
+	 * 
+	 * @return the bricks by the fqid of every group, empty for sections and groups
+	 */
+	private static <D> Map<String, List<Brick<D>>> rows(Snapshot<D> snapshot) {
+		Map<String, List<Brick<D>>> rows = new LinkedHashMap<>();
+		for (Group section : snapshot.groups()) {
+			rows.put(section.fqid(), Collections.emptyList());
+			for (Group group : snapshot.subGroups(section)) {
+				rows.put(group.fqid(), Collections.emptyList());
+				for (Group subgroup : snapshot.getSubGroupByGroupSection(group)) {
+					rows.put(subgroup.fqid(), snapshot.bricks(subgroup));
+				}
+			}
+		}
+		return rows;
+	}
+
+	private static <D> boolean same(List<Brick<D>> previous, List<Brick<D>> next) {
+		if (previous == next) {
+			return true;
+		}
+		if (previous.size() != next.size()) {
+			return false;
+		}
+		for (int i = 0; i < previous.size(); i++) {
+			Brick<D> before = previous.get(i);
+			Brick<D> after = next.get(i);
+			Position was = before.position();
+			Position is = after.position();
+			if (!before.id().equals(after.id()) || was.start() != is.start() || was.end() != is.end()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * 
+	 * @return <code>true</code> if the groups or their order differ, so the layout
+	 *         should be calculated again
+	 */
+	public boolean treeChanged() {
+		return treeChanged;
+	}
+
+	/**
+	 * 
+	 * @return the fqids of the groups that were added, removed or got different
+	 *         bricks
+	 */
+	public Set<String> changedRows() {
+		return changedRows;
+	}
+
+}
@@ -13,28 +13,138 @@
  *******************************************************************************/
 package org.eclipse.chronograph.internal.base;
 
-import java.time.Instant;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.time.ZoneId;
-import java.time.temporal.ChronoUnit;
 import java.util.Date;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Converts the moments of time to the units used for positioning and back.
+ *
+ * The time base is defined by the origin in epoch milliseconds and the unit,
+ * one of {@link TimeUnit#MILLISECONDS}, {@link TimeUnit#SECONDS},
+ * {@link TimeUnit#MINUTES}, {@link TimeUnit#HOURS} or {@link TimeUnit#DAYS}.
+ * Day units are counted in the local time of the given zone, so a day unit
+ * always starts at the local midnight. Finer units are counted in absolute
+ * milliseconds since the origin, so they neither jump nor repeat at the daylight
+ * saving transitions, the zone applies only to their labels. The conversion is
+ * pure arithmetic.
+ *
+ */
 public class UnitConverter {
 	public static final LocalDate HISTORICAL_TIME = LocalDate.of(2019, 1, 1);
 
+	private static final long HISTORICAL_EPOCH_DAY = HISTORICAL_TIME.toEpochDay();
+
+	/**
+	 * One unit is one day starting from the {@link #HISTORICAL_TIME}
+	 */
+	public static final UnitConverter DEFAULT = new UnitConverter(
+			HISTORICAL_TIME.atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli(), TimeUnit.DAYS);
+
+	private final long origin;
+	private final TimeUnit unit;
+	private final TimeZone zone;
+	private final long unitMillis;
+	private final long localOrigin;
+	private final boolean daily;
+
+	public UnitConverter(long origin, TimeUnit unit) {
+		this(origin, unit, TimeZone.getDefault());
+	}
+
+	public UnitConverter(long origin, TimeUnit unit, TimeZone zone) {
+		if (unit.compareTo(TimeUnit.MILLISECONDS) < 0) {
+			throw new IllegalArgumentException(unit.name());
+		}
+		this.origin = origin;
+		this.unit = unit;
+		this.zone = zone;
+		this.unitMillis = unit.toMillis(1);
+		this.localOrigin = origin + zone.getOffset(origin);
+		this.daily = unit.compareTo(TimeUnit.DAYS) >= 0;
+	}
+
+	/**
+	 *
+	 * @return the origin of the time base in epoch milliseconds
+	 */
+	public long origin() {
+		return origin;
+	}
+
+	/**
+	 *
+	 * @return the unit of the time base
+	 */
+	public TimeUnit unit() {
+		return unit;
+	}
+
+	/**
+	 *
+	 * @return the time zone of the time base
+	 */
+	public TimeZone zone() {
+		return zone;
+	}
+
+	/**
+	 *
+	 * @param epochMillis the moment in epoch milliseconds
+	 * @return the amount of units between the origin and the given moment
+	 */
+	public long toUnits(long epochMillis) {
+		if (!daily) {
+			return Math.floorDiv(epochMillis - origin, unitMillis);
+		}
+		return Math.floorDiv(epochMillis + zone.getOffset(epochMillis) - localOrigin, unitMillis);
+	}
+
+	/**
+	 *
+	 * @param epochMillis the moment in epoch milliseconds
+	 * @return the amount of units between the origin and the given moment,
+	 *         including the elapsed part of the unit containing the moment
+	 */
+	public double toFractionalUnits(long epochMillis) {
+		long units = toUnits(epochMillis);
+		return units + (double) (epochMillis - toEpochMillis(units)) / unitMillis;
+	}
+
+	/**
+	 *
+	 * @param units the amount of units from the origin
+	 * @return the moment in epoch milliseconds where the given unit starts
+	 */
+	public long toEpochMillis(long units) {
+		if (!daily) {
+			return origin + units * unitMillis;
+		}
+		long local = localOrigin + units * unitMillis;
+		return local - zone.getOffset(local - zone.getOffset(local));
+	}
+
+	/**
+	 *
+	 * @param amount the length of the duration
+	 * @param of     the unit of the duration
+	 * @return the amount of whole units in the given duration
+	 */
+	public long span(long amount, TimeUnit of) {
+		return of.toMillis(amount) / unitMillis;
+	}
+
 	public static int localDatetoUnits(LocalDate target) {
-		return (int) ChronoUnit.DAYS.between(HISTORICAL_TIME, target);
+		return (int) (target.toEpochDay() - HISTORICAL_EPOCH_DAY);
 	}
 
 	public static int localDatetoUnits(Date target) {
-		Instant instant = Instant.ofEpochMilli(target.getTime());
-		LocalDateTime targetDateTime = LocalDateTime.ofInstant(instant, ZoneId.systemDefault());
-		LocalDate targetDate = targetDateTime.toLocalDate();
-		return (int) ChronoUnit.DAYS.between(HISTORICAL_TIME, targetDate);
+		return (int) DEFAULT.toUnits(target.getTime());
 	}
 
 	public static LocalDate unitsToLocalDate(int units) {
-		return ChronoUnit.DAYS.addTo(HISTORICAL_TIME, units);
+		return LocalDate.ofEpochDay(HISTORICAL_EPOCH_DAY + units);
 	}
 }
@@ -0,0 +1,318 @@
+/*******************************************************************************
+ * Copyright (c) 2020 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.chronograph.internal.base.data;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+import org.eclipse.chronograph.internal.api.data.Query;
+import org.eclipse.chronograph.internal.api.data.Resolution;
+
+/**
+ * 
+ * Memoizes the results of the delegate: the input retrieved for a query is
+ * kept for the given time to live, and the identifier, the group keys, the
+ * groups, the start and the end of the record are kept in the bounded cache
+ * keyed by the identity of the record and computed on demand. Both caches drop
+ * the least recently used entries, so the bound of the record cache should
+ * cover the records retrieved together, for instance a loaded window.
+ *
+ */
+public class CachingResolution<I> extends DelegatingResolution<I> {
+
+	public static final long TTL_DEFAULT = 30_000;
+	public static final int QUERIES_DEFAULT = 16;
+	public static final int RECORDS_DEFAULT = 100_000;
+
+	private final long ttl;
+	private final Map<Query, Result<I>> results;
+	private final Records<I> records;
+
+	public CachingResolution(Resolution<I> delegate) {
+		this(delegate, TTL_DEFAULT, QUERIES_DEFAULT, RECORDS_DEFAULT);
+	}
+
+	/**
+	 * 
+	 * @param delegate the resolution to memoize
+	 * @param ttl      the time to live of the query result, in milliseconds
+	 * @param queries  the maximum amount of query results to keep
+	 * @param records  the maximum amount of records to keep the values for
+	 */
+	public CachingResolution(Resolution<I> delegate, long ttl, int queries, int records) {
+		super(delegate);
+		this.ttl = ttl;
+		this.results = new LinkedHashMap<Query, Result<I>>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Query, Result<I>> eldest) {
+				return size() > queries;
+			}
+		};
+		this.records = new Records<>(records);
+	}
+
+	@Override
+	public void input(Query query, Consumer<? super I> sink) {
+		long now = System.currentTimeMillis();
+		Result<I> result;
+		synchronized (results) {
+			result = results.get(query);
+		}
+		if (result == null || result.expires < now) {
+			List<I> items = new ArrayList<>();
+			delegate.input(query, items::add);
+			result = new Result<>(items, now + ttl);
+			synchronized (results) {
+				results.put(query, result);
+			}
+		}
+		result.items.forEach(sink);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <D> Function<D, String> identification(Class<D> type) {
+		Function<D, String> identification = delegate.identification(type);
+		if (type != type()) {
+			return identification;
+		}
+		Function<I, String> ids = (Function<I, String>) identification;
+		Function<I, String> cached = item -> {
+			Record<I> record = records.get(item);
+			String id = record.id();
+			if (id == null) {
+				id = ids.apply(item);
+				record.id(id);
+			}
+			return id;
+		};
+		return (Function<D, String>) (Function<?, String>) cached;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <G> Function<I, Optional<G>> adapt(Class<G> grouping) {
+		Function<I, Optional<G>> groups = delegate.adapt(grouping);
+		return item -> {
+			Record<I> record = records.get(item);
+			Optional<G> group = (Optional<G>) record.group(grouping);
+			if (group == null) {
+				group = groups.apply(item);
+				record.group(grouping, group);
+			}
+			return group;
+		};
+	}
+
+	@Override
+	public <G> Function<I, String> grouping(Class<G> grouping) {
+		Function<I, String> keys = delegate.grouping(grouping);
+		return item -> {
+			Record<I> record = records.get(item);
+			String key = record.key(grouping);
+			if (key == null) {
+				key = keys.apply(item);
+				record.key(grouping, key);
+			}
+			return key;
+		};
+	}
+
+	@Override
+	public Function<I, Integer> start() {
+		ToLongFunction<I> start = startAsLong();
+		return item -> (int) start.applyAsLong(item);
+	}
+
+	@Override
+	public Function<I, Integer> end() {
+		ToLongFunction<I> end = endAsLong();
+		return item -> (int) end.applyAsLong(item);
+	}
+
+	@Override
+	public ToLongFunction<I> startAsLong() {
+		ToLongFunction<I> start = delegate.startAsLong();
+		ToLongFunction<I> end = delegate.endAsLong();
+		return item -> bounded(item, start, end).start();
+	}
+
+	@Override
+	public ToLongFunction<I> endAsLong() {
+		ToLongFunction<I> start = delegate.startAsLong();
+		ToLongFunction<I> end = delegate.endAsLong();
+		return item -> bounded(item, start, end).end();
+	}
+
+	/**
+	 * Forgets all the memoized results and records
+	 */
+	@Override
+	public void invalidate() {
+		synchronized (results) {
+			results.clear();
+		}
+		records.clear();
+		super.invalidate();
+	}
+
+	private Record<I> bounded(I item, ToLongFunction<I> start, ToLongFunction<I> end) {
+		Record<I> record = records.get(item);
+		if (!record.bounded()) {
+			record.bounds(start.applyAsLong(item), end.applyAsLong(item));
+		}
+		return record;
+	}
+
+	private static final class Result<I> {
+
+		private final List<I> items;
+		private final long expires;
+
+		Result(List<I> items, long expires) {
+			this.items = items;
+			this.expires = expires;
+		}
+	}
+
+	/**
+	 * 
+	 * The records keyed by identity, the least recently used is dropped once the
+	 * capacity is exceeded. A lookup of the known record does not allocate
+	 *
+	 */
+	private static final class Records<I> {
+
+		private final int capacity;
+		private final Map<I, Record<I>> records = new IdentityHashMap<>();
+		private final Record<I> head = new Record<>(null);
+
+		Records(int capacity) {
+			this.capacity = capacity;
+			head.previous = head;
+			head.next = head;
+		}
+
+		synchronized Record<I> get(I item) {
+			Record<I> record = records.get(item);
+			if (record == null) {
+				record = new Record<>(item);
+				records.put(item, record);
+				if (records.size() > capacity) {
+					Record<I> eldest = head.previous;
+					unlink(eldest);
+					records.remove(eldest.item);
+				}
+			} else {
+				unlink(record);
+			}
+			record.previous = head;
+			record.next = head.next;
+			head.next.previous = record;
+			head.next = record;
+			return record;
+		}
+
+		synchronized void clear() {
+			records.clear();
+			head.previous = head;
+			head.next = head;
+		}
+
+		private void unlink(Record<I> record) {
+			record.previous.next = record.next;
+			record.next.previous = record.previous;
+		}
+	}
+
+	/**
+	 * 
+	 * The values of the domain functions computed for the record so far
+	 *
+	 */
+	private static final class Record<I> {
+
+		private final I item;
+		private Record<I> previous;
+		private Record<I> next;
+		private String id;
+		private boolean bounded;
+		private long start;
+		private long end;
+		private Map<Class<?>, String> keys;
+		private Map<Class<?>, Optional<?>> groups;
+
+		Record(I item) {
+			this.item = item;
+		}
+
+		synchronized String id() {
+			return id;
+		}
+
+		synchronized void id(String value) {
+			id = value;
+		}
+
+		synchronized boolean bounded() {
+			return bounded;
+		}
+
+		synchronized void bounds(long from, long to) {
+			start = from;
+			end = to;
+			bounded = true;
+		}
+
+		synchronized long start() {
+			return start;
+		}
+
+		synchronized long end() {
+			return end;
+		}
+
+		synchronized String key(Class<?> grouping) {
+			return keys == null ? null : keys.get(grouping);
+		}
+
+		synchronized void key(Class<?> grouping, String key) {
+			if (keys == null) {
+				keys = new HashMap<>(4);
+			}
+			keys.put(grouping, key);
+		}
+
+		synchronized Optional<?> group(Class<?> grouping) {
+			return groups == null ? null : groups.get(grouping);
+		}
+
+		synchronized void group(Class<?> grouping, Optional<?> group) {
+			if (groups == null) {
+				groups = new HashMap<>(4);
+			}
+			groups.put(grouping, group);
+		}
+	}
+
+}
@@ -0,0 +1,255 @@
+/*******************************************************************************
+ * Copyright (c) 2020 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.chronograph.internal.base.data;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+import org.eclipse.chronograph.internal.api.data.Query;
+import org.eclipse.chronograph.internal.api.data.Resolution;
+import org.eclipse.chronograph.internal.api.graphics.Position;
+import org.eclipse.chronograph.internal.base.PositionImpl;
+
+/**
+ * 
+ * Assembles the input from several sources of the same domain type. Requests
+ * are sent to all the sources concurrently, on virtual threads if the runtime
+ * provides them or on the bounded pool otherwise, and the results are merged
+ * into one stream ordered by start, up to the limit of the query. The outcome
+ * of every source is reported with its latency, the failure of any kind or the
+ * timeout of the source does not prevent the others from being merged. The
+ * functions for the domain objects are provided by the first source.
+ *
+ */
+public class CompositeResolution<I> extends DelegatingResolution<I> implements AutoCloseable {
+
+	public static final long TIMEOUT_DEFAULT = 30_000;
+
+	private final List<Resolution<I>> sources;
+	private final long timeout;
+	private final Consumer<SourceReport> reporter;
+	private final ExecutorService executor;
+
+	public CompositeResolution(List<Resolution<I>> sources) {
+		this(sources, TIMEOUT_DEFAULT, report -> {
+		});
+	}
+
+	/**
+	 * 
+	 * @param sources  the sources to retrieve input from, not empty
+	 * @param timeout  the time to wait for each source, in milliseconds
+	 * @param reporter the consumer of the source reports, called from the worker
+	 *                 threads
+	 */
+	public CompositeResolution(List<Resolution<I>> sources, long timeout, Consumer<SourceReport> reporter) {
+		super(sources.get(0));
+		this.sources = new ArrayList<>(sources);
+		this.timeout = timeout;
+		this.reporter = reporter;
+		this.executor = executor(sources.size());
+	}
+
+	@Override
+	public Function<Predicate<I>, List<I>> input() {
+		return filter -> {
+			List<I> items = new ArrayList<>();
+			input(filter, items::add);
+			return items;
+		};
+	}
+
+	@Override
+	public void input(Predicate<I> filter, Consumer<? super I> sink) {
+		merge((source, items) -> source.input(filter, items), sink, Long.MAX_VALUE);
+	}
+
+	@Override
+	public void input(Query query, Consumer<? super I> sink) {
+		merge((source, items) -> source.input(query, items), sink, query.limit());
+	}
+
+	/**
+	 * 
+	 * @return the range covering the extents of all the sources, empty if any of
+	 *         them is unknown
+	 */
+	@Override
+	public Optional<Position> extent() {
+		long start = Long.MAX_VALUE;
+		long end = Long.MIN_VALUE;
+		for (Resolution<I> source : sources) {
+			Optional<Position> extent = source.extent();
+			if (!extent.isPresent()) {
+				return Optional.empty();
+			}
+			start = Math.min(start, extent.get().start());
+			end = Math.max(end, extent.get().end());
+		}
+		return Optional.of(new PositionImpl(start, end));
+	}
+
+	/**
+	 * Invalidates all the sources
+	 */
+	@Override
+	public void invalidate() {
+		for (Resolution<I> source : sources) {
+			if (source instanceof DelegatingResolution) {
+				((DelegatingResolution<I>) source).invalidate();
+			}
+		}
+	}
+
+	/**
+	 * Merges the results of all the sources by start, stops once the given
+	 * amount of items is emitted
+	 */
+	private void merge(BiConsumer<Resolution<I>, Consumer<I>> request, Consumer<? super I> sink, long limit) {
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+		List<Future<List<I>>> futures = new ArrayList<>(sources.size());
+		List<AtomicBoolean> reported = new ArrayList<>(sources.size());
+		for (int i = 0; i < sources.size(); i++) {
+			int index = i;
+			AtomicBoolean once = new AtomicBoolean();
+			reported.add(once);
+			futures.add(executor.submit(() -> retrieve(index, request, once)));
+		}
+		List<List<I>> results = new ArrayList<>(sources.size());
+		for (int i = 0; i < futures.size(); i++) {
+			results.add(await(i, futures.get(i), deadline, reported.get(i)));
+		}
+		PriorityQueue<Cursor> queue = new PriorityQueue<>(
+				Comparator.comparingLong((Cursor c) -> c.start).thenComparingInt(c -> c.source));
+		for (int i = 0; i < results.size(); i++) {
+			Cursor cursor = new Cursor(i, results.get(i), sources.get(i).startAsLong());
+			if (cursor.advance()) {
+				queue.add(cursor);
+			}
+		}
+		for (long emitted = 0; emitted < limit && !queue.isEmpty(); emitted++) {
+			Cursor cursor = queue.poll();
+			sink.accept(cursor.items.get(cursor.position++));
+			if (cursor.advance()) {
+				queue.add(cursor);
+			}
+		}
+	}
+
+	private List<I> retrieve(int index, BiConsumer<Resolution<I>, Consumer<I>> request, AtomicBoolean once) {
+		Resolution<I> source = sources.get(index);
+		long started = System.nanoTime();
+		List<I> items = new ArrayList<>();
+		try {
+			request.accept(source, items::add);
+		} catch (Throwable e) {
+			report(once, new SourceReport(index, System.nanoTime() - started, items.size(), e));
+			throw e;
+		}
+		ToLongFunction<I> start = source.startAsLong();
+		items.sort(Comparator.comparingLong(start));
+		report(once, new SourceReport(index, System.nanoTime() - started, items.size(), null));
+		return items;
+	}
+
+	/**
+	 * The source is reported only once, either by the worker or on timeout
+	 */
+	private void report(AtomicBoolean once, SourceReport report) {
+		if (once.compareAndSet(false, true)) {
+			reporter.accept(report);
+		}
+	}
+
+	private List<I> await(int index, Future<List<I>> future, long deadline, AtomicBoolean once) {
+		try {
+			return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+		} catch (TimeoutException e) {
+			report(once, new SourceReport(index, TimeUnit.MILLISECONDS.toNanos(timeout), 0, e));
+			future.cancel(true);
+		} catch (InterruptedException e) {
+			future.cancel(true);
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException | CancellationException e) {
+			// already reported by the worker
+		}
+		return Collections.emptyList();
+	}
+
+	/**
+	 * Stops the worker threads
+	 */
+	@Override
+	public void close() {
+		executor.shutdownNow();
+	}
+
+	private static ExecutorService executor(int sources) {
+		try {
+			// virtual threads are available since Java 21
+			return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null); //$NON-NLS-1$
+		} catch (ReflectiveOperationException e) {
+			return Executors.newFixedThreadPool(Math.min(sources, Runtime.getRuntime().availableProcessors() * 2),
+					r -> {
+						Thread thread = new Thread(r, "Chronograph Source"); //$NON-NLS-1$
+						thread.setDaemon(true);
+						return thread;
+					});
+		}
+	}
+
+	/**
+	 * The position in the sorted result of the source
+	 *
+	 */
+	private final class Cursor {
+
+		private final int source;
+		private final List<I> items;
+		private final ToLongFunction<I> starts;
+		private int position;
+		private long start;
+
+		Cursor(int source, List<I> items, ToLongFunction<I> starts) {
+			this.source = source;
+			this.items = items;
+			this.starts = starts;
+		}
+
+		boolean advance() {
+			if (position >= items.size()) {
+				return false;
+			}
+			start = starts.applyAsLong(items.get(position));
+			return true;
+		}
+	}
+
+}
@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * Copyright (c) 2020 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.chronograph.internal.base.data;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+import org.eclipse.chronograph.internal.api.data.Query;
+import org.eclipse.chronograph.internal.api.data.Resolution;
+import org.eclipse.chronograph.internal.api.graphics.Position;
+
+/**
+ * 
+ * Base class for the {@link Resolution} decorators, forwards everything to the
+ * delegate
+ *
+ */
+public abstract class DelegatingResolution<I> implements Resolution<I> {
+
+	protected final Resolution<I> delegate;
+
+	public DelegatingResolution(Resolution<I> delegate) {
+		this.delegate = delegate;
+	}
+
+	@Override
+	public Class<I> type() {
+		return delegate.type();
+	}
+
+	@Override
+	public Function<Predicate<I>, List<I>> input() {
+		return delegate.input();
+	}
+
+	@Override
+	public void input(Predicate<I> filter, Consumer<? super I> sink) {
+		delegate.input(filter, sink);
+	}
+
+	@Override
+	public void input(Query query, Consumer<? super I> sink) {
+		delegate.input(query, sink);
+	}
+
+	@Override
+	public <D> Function<D, String> identification(Class<D> type) {
+		return delegate.identification(type);
+	}
+
+	@Override
+	public <G> Function<I, Optional<G>> adapt(Class<G> grouping) {
+		return delegate.adapt(grouping);
+	}
+
+	@Override
+	public <G> Function<I, String> grouping(Class<G> grouping) {
+		return delegate.grouping(grouping);
+	}
+
+	@Override
+	public <G> Optional<ToIntFunction<I>> groupingAsInt(Class<G> grouping) {
+		return delegate.groupingAsInt(grouping);
+	}
+
+	@Override
+	public List<Class<?>> groupings() {
+		return delegate.groupings();
+	}
+
+	@Override
+	public Function<I, Integer> start() {
+		return delegate.start();
+	}
+
+	@Override
+	public Function<I, Integer> end() {
+		return delegate.end();
+	}
+
+	@Override
+	public ToLongFunction<I> startAsLong() {
+		return delegate.startAsLong();
+	}
+
+	@Override
+	public ToLongFunction<I> endAsLong() {
+		return delegate.endAsLong();
+	}
+
+	@Override
+	public Optional<Position> extent() {
+		return delegate.extent();
+	}
+
+	/**
+	 * Forgets everything memoized by this decorator and by the decorators it
+	 * delegates to, so the input is retrieved from the storage again
+	 */
+	public void invalidate() {
+		if (delegate instanceof DelegatingResolution) {
+			((DelegatingResolution<I>) delegate).invalidate();
+		}
+	}
+
+}
@@ -0,0 +1,104 @@
+/*******************************************************************************
+ * Copyright (c) 2020 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.chronograph.internal.base.data;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import org.eclipse.chronograph.internal.api.data.Query;
+import org.eclipse.chronograph.internal.api.graphics.Position;
+import org.eclipse.chronograph.internal.base.PositionImpl;
+
+/**
+ * 
+ * Implementation of {@link Query} interface, can be used as a key
+ *
+ */
+public final class QueryImpl implements Query {
+
+	private static final QueryImpl ALL = new QueryImpl(null, Collections.emptyMap(), Long.MAX_VALUE);
+
+	private final Position window;
+	private final Map<Class<?>, Set<String>> groups;
+	private final long limit;
+
+	/**
+	 * 
+	 * @param window the time window or <code>null</code> for the whole time line
+	 * @param groups the accepted keys by grouping type
+	 * @param limit  the maximum amount of objects
+	 */
+	public QueryImpl(Position window, Map<Class<?>, Set<String>> groups, long limit) {
+		this.window = window;
+		this.groups = Collections.unmodifiableMap(new HashMap<>(groups));
+		this.limit = limit;
+	}
+
+	public QueryImpl(long from, long to) {
+		this(new PositionImpl(from, to), Collections.emptyMap(), Long.MAX_VALUE);
+	}
+
+	/**
+	 * 
+	 * @return the query for the whole input
+	 */
+	public static QueryImpl all() {
+		return ALL;
+	}
+
+	@Override
+	public Optional<Position> window() {
+		return Optional.ofNullable(window);
+	}
+
+	@Override
+	public Map<Class<?>, Set<String>> groups() {
+		return groups;
+	}
+
+	@Override
+	public long limit() {
+		return limit;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(windowStart(), windowEnd(), groups, limit);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof QueryImpl)) {
+			return false;
+		}
+		QueryImpl other = (QueryImpl) obj;
+		return Objects.equals(windowStart(), other.windowStart()) && Objects.equals(windowEnd(), other.windowEnd())
+				&& groups.equals(other.groups) && limit == other.limit;
+	}
+
+	private Long windowStart() {
+		return window == null ? null : window.start();
+	}
+
+	private Long windowEnd() {
+		return window == null ? null : window.end();
+	}
+
+}
@@ -0,0 +1,164 @@
+/*******************************************************************************
+ * Copyright (c) 2020 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.chronograph.internal.base.data;
+
+import java.util.Arrays;
+
+/**
+ * 
+ * Resident aggregate of the time window segment, keeps only the sorted bounds
+ * of the items intersecting the segment, so the status counts remain available
+ * after the items themselves are evicted and are counted with a binary search.
+ * Every item is counted by one segment only, see {@link #actual(long)} and
+ * {@link #expired(long)}
+ *
+ */
+public final class SegmentSummary {
+
+	private final long from;
+	private final long to;
+	/**
+	 * The sorted starts of the items that may be actual, the ones having a
+	 * non-empty duration
+	 */
+	private final long[] starts;
+	/**
+	 * The sorted ends of the items that may be actual, in any order relative to
+	 * the {@link #starts}
+	 */
+	private final long[] ends;
+	/**
+	 * The sorted ends of the items ending within the segment
+	 */
+	private final long[] expiring;
+
+	/**
+	 * 
+	 * @param from   the first unit of the segment
+	 * @param to     the last unit of the segment
+	 * @param starts the starts of the items intersecting the segment
+	 * @param ends   the ends of the same items, in the same order
+	 */
+	public SegmentSummary(long from, long to, long[] starts, long[] ends) {
+		this.from = from;
+		this.to = to;
+		int lasting = 0;
+		int ending = 0;
+		for (int i = 0; i < ends.length; i++) {
+			if (starts[i] < ends[i]) {
+				lasting++;
+			}
+			if (ends[i] >= from && ends[i] <= to) {
+				ending++;
+			}
+		}
+		this.starts = new long[lasting];
+		this.ends = new long[lasting];
+		this.expiring = new long[ending];
+		lasting = 0;
+		ending = 0;
+		for (int i = 0; i < ends.length; i++) {
+			if (starts[i] < ends[i]) {
+				this.starts[lasting] = starts[i];
+				this.ends[lasting] = ends[i];
+				lasting++;
+			}
+			if (ends[i] >= from && ends[i] <= to) {
+				this.expiring[ending++] = ends[i];
+			}
+		}
+		Arrays.sort(this.starts);
+		Arrays.sort(this.ends);
+		Arrays.sort(this.expiring);
+	}
+
+	/**
+	 * 
+	 * @return the first unit of the segment
+	 */
+	public long from() {
+		return from;
+	}
+
+	/**
+	 * 
+	 * @return the last unit of the segment
+	 */
+	public long to() {
+		return to;
+	}
+
+	/**
+	 * Items are counted by the segment containing the given moment only
+	 * 
+	 * @param now the current moment in units
+	 * @return the amount of items that are actual for the given moment
+	 */
+	public int actual(long now) {
+		if (now < from || now > to) {
+			return 0;
+		}
+		// every lasting item ended by now has started before it
+		return below(starts, now) - atMost(ends, now);
+	}
+
+	/**
+	 * Items are counted by the segment containing their end only
+	 * 
+	 * @param now the current moment in units
+	 * @return the amount of items ended before the given moment
+	 */
+	public int expired(long now) {
+		if (now <= from) {
+			return 0;
+		}
+		return below(expiring, now);
+	}
+
+	/**
+	 * 
+	 * @return the amount of the sorted values less than the given one
+	 */
+	private static int below(long[] sorted, long value) {
+		int low = 0;
+		int high = sorted.length;
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (sorted[middle] < value) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * 
+	 * @return the amount of the sorted values not greater than the given one
+	 */
+	private static int atMost(long[] sorted, long value) {
+		int low = 0;
+		int high = sorted.length;
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (sorted[middle] <= value) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+
+}
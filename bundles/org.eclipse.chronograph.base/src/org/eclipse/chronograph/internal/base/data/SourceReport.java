@@ -0,0 +1,75 @@
+/*******************************************************************************
+ * Copyright (c) 2020 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.chronograph.internal.base.data;
+
+import java.util.Optional;
+
+/**
+ * 
+ * The outcome of the request to one of the sources of the
+ * {@link CompositeResolution}
+ *
+ */
+public final class SourceReport {
+
+	private final int source;
+	private final long nanos;
+	private final int count;
+	private final Throwable failure;
+
+	public SourceReport(int source, long nanos, int count, Throwable failure) {
+		this.source = source;
+		this.nanos = nanos;
+		this.count = count;
+		this.failure = failure;
+	}
+
+	/**
+	 * 
+	 * @return the index of the source
+	 */
+	public int source() {
+		return source;
+	}
+
+	/**
+	 * 
+	 * @return the time spent by the source, in nanoseconds
+	 */
+	public long nanos() {
+		return nanos;
+	}
+
+	/**
+	 * 
+	 * @return the amount of objects retrieved from the source
+	 */
+	public int count() {
+		return count;
+	}
+
+	/**
+	 * 
+	 * @return the failure of the source, if any
+	 */
+	public Optional<Throwable> failure() {
+		return Optional.ofNullable(failure);
+	}
+
+	@Override
+	public String toString() {
+		return "SourceReport [source=" + source + ", nanos=" + nanos + ", count=" + count + ", failure=" + failure //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+				+ "]"; //$NON-NLS-1$
+	}
+
+}
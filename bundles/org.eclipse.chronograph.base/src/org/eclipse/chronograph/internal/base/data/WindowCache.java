@@ -0,0 +1,383 @@
+/*******************************************************************************
+ * Copyright (c) 2020 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.chronograph.internal.base.data;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+
+import org.eclipse.chronograph.internal.api.data.Query;
+import org.eclipse.chronograph.internal.api.data.Resolution;
+import org.eclipse.chronograph.internal.api.graphics.Position;
+
+/**
+ * 
+ * Keeps the input retrieved from the delegate in time window segments of the
+ * fixed size, so the windowed queries are served from the segments that are
+ * already loaded. The estimated footprint of the segments is bounded by the
+ * memory budget: when it is exceeded the segments most distant from the focus
+ * window are evicted, the least recently used first, and are fetched from the
+ * delegate again when needed. An item spanning several segments is referenced
+ * by each of them and its footprint is accounted by the segment containing its
+ * start. The {@link SegmentSummary} of every segment stays resident after
+ * eviction, so the status counts are available without the items. The counts
+ * are kept until a segment is stored or the current moment changes, so the
+ * frames painted for the same moment do not count them again. Segments can be
+ * loaded ahead of time from a background thread with
+ * {@link #prefetch(long, long)}, so the delegate is called from that thread
+ * while it may be called by the query thread as well. The query for a segment
+ * that is being prefetched waits for it.
+ *
+ */
+public class WindowCache<I> extends DelegatingResolution<I> {
+
+	/**
+	 * Default estimate of the memory retained by one item, in bytes
+	 */
+	public static final long ITEM_FOOTPRINT = 256;
+
+	private final long segment;
+	private final long budget;
+	private final ToLongFunction<I> footprint;
+	private final Map<Long, List<I>> segments = new LinkedHashMap<>(16, 0.75f, true);
+	private final Map<Long, Long> footprints = new HashMap<>();
+	private final Map<Long, SegmentSummary> summaries = new HashMap<>();
+	private final Set<Long> loading = new HashSet<>();
+	private long resident;
+	private long hits;
+	private long misses;
+	private long focusFrom = Long.MIN_VALUE;
+	private long focusTo = Long.MIN_VALUE;
+	private boolean counted;
+	private long countedAt;
+	private int actual;
+	private int expired;
+
+	/**
+	 * 
+	 * @param delegate the resolution to retrieve input from
+	 * @param segment  the size of segment in units
+	 * @param budget   the memory budget for the loaded items, in bytes
+	 */
+	public WindowCache(Resolution<I> delegate, long segment, long budget) {
+		this(delegate, segment, budget, item -> ITEM_FOOTPRINT);
+	}
+
+	/**
+	 * 
+	 * @param delegate  the resolution to retrieve input from
+	 * @param segment   the size of segment in units
+	 * @param budget    the memory budget for the loaded items, in bytes
+	 * @param footprint the estimate of the memory retained by the item, in bytes
+	 */
+	public WindowCache(Resolution<I> delegate, long segment, long budget, ToLongFunction<I> footprint) {
+		super(delegate);
+		this.segment = segment;
+		this.budget = budget;
+		this.footprint = footprint;
+	}
+
+	@Override
+	public void input(Query query, Consumer<? super I> sink) {
+		Optional<Position> window = query.window();
+		if (!window.isPresent() || !query.groups().isEmpty() || query.limit() != Long.MAX_VALUE) {
+			super.input(query, sink);
+			return;
+		}
+		long from = window.get().start();
+		long to = window.get().end();
+		ToLongFunction<I> start = startAsLong();
+		ToLongFunction<I> end = endAsLong();
+		for (long index = index(from); index <= index(to); index++) {
+			for (I item : segment(index)) {
+				long itemStart = start.applyAsLong(item);
+				long itemEnd = end.applyAsLong(item);
+				// the item spanning several segments is pushed by the first one
+				if (itemStart <= to && itemEnd >= from && index(Math.max(itemStart, from)) == index) {
+					sink.accept(item);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Sets the window the segments are kept around, the segments intersecting it
+	 * are never evicted
+	 * 
+	 * @param from the start of the window in units
+	 * @param to   the end of the window in units
+	 */
+	public void focus(long from, long to) {
+		synchronized (segments) {
+			focusFrom = index(from);
+			focusTo = index(to);
+			evict();
+		}
+	}
+
+	/**
+	 * Loads the segments intersecting the given window that are not loaded yet,
+	 * intended to be called from a background thread
+	 * 
+	 * @param from the start of the window in units
+	 * @param to   the end of the window in units
+	 */
+	public void prefetch(long from, long to) {
+		for (long index = index(from); index <= index(to); index++) {
+			synchronized (segments) {
+				if (segments.containsKey(index) || !loading.add(index)) {
+					continue;
+				}
+			}
+			fetch(index);
+		}
+	}
+
+	/**
+	 * 
+	 * @param from the start of the window in units
+	 * @param to   the end of the window in units
+	 * @return <code>true</code> if all the segments for the window are loaded or
+	 *         being loaded
+	 */
+	public boolean covers(long from, long to) {
+		synchronized (segments) {
+			for (long index = index(from); index <= index(to); index++) {
+				if (!segments.containsKey(index) && !loading.contains(index)) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
+	/**
+	 * 
+	 * @param now the current moment in units
+	 * @return the amount of actual items among the segments loaded so far
+	 */
+	public int actual(long now) {
+		synchronized (segments) {
+			count(now);
+			return actual;
+		}
+	}
+
+	/**
+	 * 
+	 * @param now the current moment in units
+	 * @return the amount of expired items among the segments loaded so far
+	 */
+	public int expired(long now) {
+		synchronized (segments) {
+			count(now);
+			return expired;
+		}
+	}
+
+	/**
+	 * 
+	 * @return the estimated footprint of the loaded segments, in bytes
+	 */
+	public long resident() {
+		synchronized (segments) {
+			return resident;
+		}
+	}
+
+	/**
+	 * 
+	 * @return the amount of segments served from the cache so far
+	 */
+	public long hits() {
+		synchronized (segments) {
+			return hits;
+		}
+	}
+
+	/**
+	 * 
+	 * @return the amount of segments requested from the delegate by the queries
+	 *         so far, the prefetched segments are not counted
+	 */
+	public long misses() {
+		synchronized (segments) {
+			return misses;
+		}
+	}
+
+	/**
+	 * Forgets all the loaded segments and their summaries
+	 */
+	public void clear() {
+		synchronized (segments) {
+			segments.clear();
+			footprints.clear();
+			summaries.clear();
+			counted = false;
+			resident = 0;
+		}
+	}
+
+	/**
+	 * Forgets all the loaded segments along with everything memoized by the
+	 * delegate
+	 */
+	@Override
+	public void invalidate() {
+		clear();
+		super.invalidate();
+	}
+
+	/**
+	 * Waits for the segment that is being loaded by another thread instead of
+	 * loading it again
+	 */
+	private List<I> segment(long index) {
+		synchronized (segments) {
+			awaitLoaded(index);
+			List<I> items = segments.get(index);
+			if (items != null) {
+				hits++;
+				return items;
+			}
+			misses++;
+			loading.add(index);
+		}
+		return fetch(index);
+	}
+
+	private void awaitLoaded(long index) {
+		while (loading.contains(index)) {
+			try {
+				segments.wait();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Loads and stores the segment marked as loading by the caller
+	 */
+	private List<I> fetch(long index) {
+		try {
+			List<I> items = load(index);
+			store(index, items);
+			return items;
+		} finally {
+			synchronized (segments) {
+				loading.remove(index);
+				segments.notifyAll();
+			}
+		}
+	}
+
+	private List<I> load(long index) {
+		List<I> items = new ArrayList<>();
+		delegate.input(new QueryImpl(index * segment, (index + 1) * segment - 1), items::add);
+		return items;
+	}
+
+	private void store(long index, List<I> items) {
+		ToLongFunction<I> start = startAsLong();
+		ToLongFunction<I> end = endAsLong();
+		long[] starts = new long[items.size()];
+		long[] ends = new long[items.size()];
+		long bytes = 0;
+		for (int i = 0; i < starts.length; i++) {
+			I item = items.get(i);
+			starts[i] = start.applyAsLong(item);
+			ends[i] = end.applyAsLong(item);
+			// the item spanning several segments is accounted by the first one only
+			if (index(starts[i]) == index) {
+				bytes += footprint.applyAsLong(item);
+			}
+		}
+		SegmentSummary summary = new SegmentSummary(index * segment, (index + 1) * segment - 1, starts, ends);
+		synchronized (segments) {
+			Long previous = footprints.put(index, bytes);
+			if (previous != null) {
+				resident -= previous;
+			}
+			resident += bytes;
+			segments.put(index, items);
+			summaries.put(index, summary);
+			counted = false;
+			evict();
+		}
+	}
+
+	/**
+	 * Counts the status of the given moment over all the summaries unless it is
+	 * counted already, called under the lock of the segments
+	 */
+	private void count(long now) {
+		if (counted && countedAt == now) {
+			return;
+		}
+		actual = 0;
+		expired = 0;
+		for (SegmentSummary summary : summaries.values()) {
+			actual += summary.actual(now);
+			expired += summary.expired(now);
+		}
+		counted = true;
+		countedAt = now;
+	}
+
+	private void evict() {
+		while (resident > budget) {
+			Long victim = null;
+			long farthest = 0;
+			for (long index : segments.keySet()) {
+				long distance = distance(index);
+				if (distance > farthest) {
+					farthest = distance;
+					victim = index;
+				}
+			}
+			if (victim == null) {
+				return;
+			}
+			segments.remove(victim);
+			resident -= footprints.remove(victim);
+		}
+	}
+
+	private long distance(long index) {
+		if (focusFrom == Long.MIN_VALUE) {
+			return 1;
+		}
+		if (index < focusFrom) {
+			return focusFrom - index;
+		}
+		if (index > focusTo) {
+			return index - focusTo;
+		}
+		return 0;
+	}
+
+	private long index(long units) {
+		return Math.floorDiv(units, segment);
+	}
+
+}
@@ -0,0 +1,199 @@
+/*******************************************************************************
+ * Copyright (c) 2020 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.chronograph.internal.base.flight;
+
+/**
+ *
+ * Emits the Java Flight Recorder events for the phases of the chronograph: the
+ * input, the restructure, the layout and the frame. The events are recorded
+ * only if the <code>org.eclipse.chronograph.base.jfr</code> fragment is resolved
+ * against the runtime that provides <code>jdk.jfr</code> and the event is
+ * enabled in the running recording, otherwise the phases are not measured and
+ * nothing is allocated
+ *
+ */
+public class Flight {
+
+	/**
+	 * The phases of the frame, measured separately
+	 */
+	public enum Phase {
+		/**
+		 * The background of the stage
+		 */
+		STAGE,
+		/**
+		 * The grid lines
+		 */
+		LINES,
+		/**
+		 * The bricks, their durations and the selection
+		 */
+		BRICKS,
+		/**
+		 * The labels of the bricks
+		 */
+		LABELS,
+		/**
+		 * The groups and the sections
+		 */
+		GROUPS,
+		/**
+		 * The status line
+		 */
+		STATUS,
+		/**
+		 * The rulers
+		 */
+		RULERS
+	}
+
+	/**
+	 * The retrieval of the input from the resolution
+	 */
+	public interface Input {
+
+		Input NONE = objects -> {
+			// not recorded
+		};
+
+		/**
+		 * Ends the phase
+		 *
+		 * @param objects the amount of retrieved domain objects
+		 */
+		void record(int objects);
+	}
+
+	/**
+	 * The structuring of the input into the groups and the bricks
+	 */
+	public interface Restructure {
+
+		Restructure NONE = (sections, bricks) -> {
+			// not recorded
+		};
+
+		/**
+		 * Ends the phase
+		 *
+		 * @param sections the amount of sections
+		 * @param bricks   the amount of bricks
+		 */
+		void record(int sections, int bricks);
+	}
+
+	/**
+	 * The computation of the group areas
+	 */
+	public interface Layout {
+
+		Layout NONE = (sections, width, height, zoom) -> {
+			// not recorded
+		};
+
+		/**
+		 * Ends the phase
+		 *
+		 * @param sections the amount of sections
+		 * @param width    the width of the client area
+		 * @param height   the height of the client area
+		 * @param zoom     the vertical zoom
+		 */
+		void record(int sections, int width, int height, int zoom);
+	}
+
+	/**
+	 * The paint of the whole frame
+	 */
+	public interface Frame {
+
+		Frame NONE = (visible, culled, scale, zoom, phases) -> {
+			// not recorded
+		};
+
+		/**
+		 * Ends the phase
+		 *
+		 * @param visible the amount of painted bricks
+		 * @param culled  the amount of bricks outside of the visible area
+		 * @param scale   the amount of pixels per unit, may be fractional
+		 * @param zoom    the vertical zoom
+		 * @param phases  the nanoseconds spent in every {@link Phase}, indexed by
+		 *                its ordinal
+		 */
+		void record(int visible, int culled, double scale, int zoom, long[] phases);
+	}
+
+	private static final Flight RECORDER = create();
+
+	protected Flight() {
+	}
+
+	/**
+	 *
+	 * @return the recorder for the running JVM
+	 */
+	public static Flight recorder() {
+		return RECORDER;
+	}
+
+	private static Flight create() {
+		try {
+			// contributed by the Java 11 fragment that shares the class loader of this bundle
+			Class.forName("jdk.jfr.Event", false, Flight.class.getClassLoader()); //$NON-NLS-1$
+			return (Flight) Class.forName("org.eclipse.chronograph.internal.base.flight.JfrFlight") //$NON-NLS-1$
+					.getDeclaredConstructor().newInstance();
+		} catch (ReflectiveOperationException | LinkageError e) {
+			return new Flight();
+		}
+	}
+
+	/**
+	 * Begins the input phase
+	 *
+	 * @return the phase to end when the input is retrieved
+	 */
+	public Input input() {
+		return Input.NONE;
+	}
+
+	/**
+	 * Begins the restructure phase
+	 *
+	 * @return the phase to end when the data is published
+	 */
+	public Restructure restructure() {
+		return Restructure.NONE;
+	}
+
+	/**
+	 * Begins the layout phase
+	 *
+	 * @return the phase to end when the areas are computed
+	 */
+	public Layout layout() {
+		return Layout.NONE;
+	}
+
+	/**
+	 * Begins the frame
+	 *
+	 * @return the frame to end when it is painted, {@link Frame#NONE} if the
+	 *         frame is not recorded and the phases need not to be measured
+	 */
+	public Frame frame() {
+		return Frame.NONE;
+	}
+
+}
@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright (c) 2020 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.chronograph.internal.base.metrics;
+
+import java.util.Arrays;
+
+import org.eclipse.chronograph.internal.api.metrics.Histogram;
+
+/**
+ * 
+ * Implementation of {@link Histogram} over the sorted copy of the recent
+ * samples
+ *
+ */
+public final class HistogramImpl implements Histogram {
+
+	private final long count;
+	private final long[] samples;
+
+	/**
+	 * 
+	 * @param count   the amount of the measurements since the start
+	 * @param samples the recent measurements, the array is sorted in place
+	 */
+	public HistogramImpl(long count, long[] samples) {
+		this.count = count;
+		this.samples = samples;
+		Arrays.sort(samples);
+	}
+
+	@Override
+	public long count() {
+		return count;
+	}
+
+	@Override
+	public long min() {
+		return samples.length == 0 ? 0 : samples[0];
+	}
+
+	@Override
+	public long max() {
+		return samples.length == 0 ? 0 : samples[samples.length - 1];
+	}
+
+	@Override
+	public double mean() {
+		if (samples.length == 0) {
+			return 0;
+		}
+		double sum = 0;
+		for (long sample : samples) {
+			sum += sample;
+		}
+		return sum / samples.length;
+	}
+
+	@Override
+	public long percentile(double quantile) {
+		if (samples.length == 0) {
+			return 0;
+		}
+		int index = (int) Math.ceil(quantile * samples.length) - 1;
+		return samples[Math.max(0, Math.min(samples.length - 1, index))];
+	}
+
+}
@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * Copyright (c) 2020 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.chronograph.internal.base.metrics;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+import org.eclipse.chronograph.internal.api.metrics.Gauge;
+import org.eclipse.chronograph.internal.api.metrics.Histogram;
+import org.eclipse.chronograph.internal.api.metrics.Metrics;
+import org.eclipse.chronograph.internal.api.metrics.Timer;
+
+/**
+ * 
+ * Implementation of {@link Metrics}: the gauges are set and the timers are
+ * recorded by the owner of the chronograph without allocation, the histograms
+ * keep the last {@link #SAMPLES} measurements of every timer. The values can be
+ * read from any thread.
+ *
+ */
+public final class MetricsImpl implements Metrics {
+
+	/**
+	 * The amount of recent measurements kept for every timer
+	 */
+	public static final int SAMPLES = 1024;
+
+	private final AtomicLongArray gauges = new AtomicLongArray(Gauge.values().length);
+	private final Samples[] timers = new Samples[Timer.values().length];
+	private final List<Consumer<Metrics>> listeners = new CopyOnWriteArrayList<>();
+	private final Consumer<Consumer<Metrics>> notification = listener -> listener.accept(this);
+
+	public MetricsImpl() {
+		for (int i = 0; i < timers.length; i++) {
+			timers[i] = new Samples();
+		}
+	}
+
+	/**
+	 * 
+	 * @param gauge the gauge to set
+	 * @param value the current value
+	 */
+	public void set(Gauge gauge, long value) {
+		gauges.set(gauge.ordinal(), value);
+	}
+
+	/**
+	 * 
+	 * @param timer the timer to record
+	 * @param nanos the measurement in nanoseconds
+	 */
+	public void record(Timer timer, long nanos) {
+		timers[timer.ordinal()].add(nanos);
+	}
+
+	/**
+	 * Notifies the listeners, intended to be called after every frame
+	 */
+	public void publish() {
+		listeners.forEach(notification);
+	}
+
+	@Override
+	public long gauge(Gauge gauge) {
+		return gauges.get(gauge.ordinal());
+	}
+
+	@Override
+	public Histogram histogram(Timer timer) {
+		return timers[timer.ordinal()].histogram();
+	}
+
+	@Override
+	public void addListener(Consumer<Metrics> listener) {
+		listeners.add(listener);
+	}
+
+	@Override
+	public void removeListener(Consumer<Metrics> listener) {
+		listeners.remove(listener);
+	}
+
+	/**
+	 * The ring of the recent measurements
+	 */
+	private static final class Samples {
+
+		private final long[] ring = new long[SAMPLES];
+		private long count;
+
+		synchronized void add(long nanos) {
+			ring[(int) (count % SAMPLES)] = nanos;
+			count++;
+		}
+
+		synchronized Histogram histogram() {
+			int size = (int) Math.min(count, SAMPLES);
+			long[] recent = new long[size];
+			System.arraycopy(ring, 0, recent, 0, size);
+			return new HistogramImpl(count, recent);
+		}
+	}
+
+}
@@ -12,7 +12,6 @@
  *******************************************************************************/
 package org.eclipse.chronograph.internal.base.query;
 
-import java.time.LocalDate;
 import java.util.function.Predicate;
 
 import org.eclipse.chronograph.internal.api.graphics.Brick;
@@ -20,22 +19,26 @@ import org.eclipse.chronograph.internal.base.UnitConverter;
 
 /**
  * 
- * Accepts bricks that are expired for the given data
+ * Accepts bricks that are actual for the current moment
  *
  */
 public class ActualBricks<D> implements Predicate<Brick<D>> {
 
-	private final LocalDate local;
+	private final long now;
 
 	public ActualBricks() {
-		this.local = LocalDate.now();
+		this(UnitConverter.DEFAULT);
+	}
+
+	public ActualBricks(UnitConverter converter) {
+		this.now = converter.toUnits(System.currentTimeMillis());
 	}
 
 	@Override
 	public boolean test(Brick<D> brick) {
-		LocalDate start = UnitConverter.unitsToLocalDate((int) brick.position().start());
-		LocalDate end = UnitConverter.unitsToLocalDate((int) brick.position().end());
-		return local.isAfter(start) && local.isBefore(end);
+		long start = brick.position().start();
+		long end = brick.position().end();
+		return now > start && now < end;
 	}
 
 }
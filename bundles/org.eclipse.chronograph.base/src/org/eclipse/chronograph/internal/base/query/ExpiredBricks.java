@@ -12,7 +12,6 @@
  *******************************************************************************/
 package org.eclipse.chronograph.internal.base.query;
 
-import java.time.LocalDate;
 import java.util.function.Predicate;
 
 import org.eclipse.chronograph.internal.api.graphics.Brick;
@@ -20,22 +19,24 @@ import org.eclipse.chronograph.internal.base.UnitConverter;
 
 /**
  * 
- * Accepts bricks that are expired for the given data
+ * Accepts bricks that are expired for the current moment
  *
  */
 public class ExpiredBricks<D> implements Predicate<Brick<D>> {
 
-	private final LocalDate local;
+	private final long now;
 
 	public ExpiredBricks() {
-		this.local = LocalDate.now();
+		this(UnitConverter.DEFAULT);
+	}
+
+	public ExpiredBricks(UnitConverter converter) {
+		this.now = converter.toUnits(System.currentTimeMillis());
 	}
 
 	@Override
 	public boolean test(Brick<D> brick) {
-		LocalDate start = UnitConverter.unitsToLocalDate((int) brick.position().start());
-		LocalDate end = UnitConverter.unitsToLocalDate((int) brick.position().end());
-		return local.isAfter(end) && local.isBefore(start);
+		return now > brick.position().end();
 	}
 
 }
@@ -29,7 +29,6 @@ import org.eclipse.swt.widgets.Display;
  */
 public class BrickStyler implements Styler {
 
-	private static final Display DISPLAY = Display.getDefault();
 	private static Color COLOR_TOP;
 	private static Color COLOR_BOTTOM;
 	private static Color SELECTED_COLOR_TOP;
@@ -42,32 +41,34 @@ public class BrickStyler implements Styler {
 
 	@Override
 	public void initClassicTheme() {
-		COLOR_TOP = new Color(DISPLAY, new RGB(195, 245, 180));
-		COLOR_BOTTOM = new Color(DISPLAY, new RGB(100, 150, 90));
-		SELECTED_COLOR_TOP = new Color(DISPLAY, new RGB(110, 190, 82));
-		SELECTED_COLOR_BOTTOM = new Color(DISPLAY, new RGB(80, 140, 82));
-		ACTIVE_COLOR_TOP = new Color(DISPLAY, new RGB(110, 190, 82));
-		ACTIVE_COLOR_BOTTOM = new Color(DISPLAY, new RGB(80, 140, 82));
-		COLOR_BORDER = new Color(DISPLAY, new RGB(95, 95, 95));
-		COLOR_TEXT = new Color(DISPLAY, new RGB(220, 220, 220));
-		COLOR_CALL_OUT = new Color(DISPLAY, new RGB(100, 100, 100));
+		Display display = Display.getDefault();
+		COLOR_TOP = new Color(display, new RGB(195, 245, 180));
+		COLOR_BOTTOM = new Color(display, new RGB(100, 150, 90));
+		SELECTED_COLOR_TOP = new Color(display, new RGB(110, 190, 82));
+		SELECTED_COLOR_BOTTOM = new Color(display, new RGB(80, 140, 82));
+		ACTIVE_COLOR_TOP = new Color(display, new RGB(110, 190, 82));
+		ACTIVE_COLOR_BOTTOM = new Color(display, new RGB(80, 140, 82));
+		COLOR_BORDER = new Color(display, new RGB(95, 95, 95));
+		COLOR_TEXT = new Color(display, new RGB(220, 220, 220));
+		COLOR_CALL_OUT = new Color(display, new RGB(100, 100, 100));
 	}
 
 	@Override
 	public void initDarkTheme() {
-		COLOR_TOP = new Color(DISPLAY, new RGB(136, 105, 184));
-		COLOR_BOTTOM = new Color(DISPLAY, new RGB(64, 36, 89));
-		SELECTED_COLOR_TOP = new Color(DISPLAY, new RGB(136, 105, 184));
-		SELECTED_COLOR_BOTTOM = new Color(DISPLAY, new RGB(64, 36, 89));
-		ACTIVE_COLOR_TOP = new Color(DISPLAY, new RGB(149, 140, 184));
-		ACTIVE_COLOR_BOTTOM = new Color(DISPLAY, new RGB(104, 136, 89));
-		COLOR_BORDER = new Color(DISPLAY, new RGB(190, 155, 184));
-		COLOR_TEXT = new Color(DISPLAY, new RGB(220, 220, 220));
-		COLOR_CALL_OUT = new Color(DISPLAY, new RGB(220, 220, 220));
+		Display display = Display.getDefault();
+		COLOR_TOP = new Color(display, new RGB(136, 105, 184));
+		COLOR_BOTTOM = new Color(display, new RGB(64, 36, 89));
+		SELECTED_COLOR_TOP = new Color(display, new RGB(136, 105, 184));
+		SELECTED_COLOR_BOTTOM = new Color(display, new RGB(64, 36, 89));
+		ACTIVE_COLOR_TOP = new Color(display, new RGB(149, 140, 184));
+		ACTIVE_COLOR_BOTTOM = new Color(display, new RGB(104, 136, 89));
+		COLOR_BORDER = new Color(display, new RGB(190, 155, 184));
+		COLOR_TEXT = new Color(display, new RGB(220, 220, 220));
+		COLOR_CALL_OUT = new Color(display, new RGB(220, 220, 220));
 	}
 
 	public static int getHeight() {
-		GC gc = new GC(DISPLAY);
+		GC gc = new GC(Display.getDefault());
 		FontMetrics fontMetrics = gc.getFontMetrics();
 		int height = fontMetrics.getHeight();
 		gc.dispose();
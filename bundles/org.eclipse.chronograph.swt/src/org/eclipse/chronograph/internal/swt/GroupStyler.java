@@ -27,22 +27,23 @@ import org.eclipse.swt.widgets.Group;
  */
 public class GroupStyler implements Styler {
 	public static final int GROUP_HEIGHT_DEFAULT = 50;
-	private static final Display DISPLAY = Display.getDefault();
 	public static Color GROUP_TOP_COLOR;
 	public static Color GROUP_BTM_COLOR;
 	public static Color GROUP_TEXT_COLOR;
 
 	@Override
 	public void initClassicTheme() {
-		GROUP_TOP_COLOR = new Color(DISPLAY, new RGB(220, 220, 220));
-		GROUP_BTM_COLOR = new Color(DISPLAY, new RGB(170, 170, 170));
-		GROUP_TEXT_COLOR = new Color(DISPLAY, new RGB(10, 10, 10));
+		Display display = Display.getDefault();
+		GROUP_TOP_COLOR = new Color(display, new RGB(220, 220, 220));
+		GROUP_BTM_COLOR = new Color(display, new RGB(170, 170, 170));
+		GROUP_TEXT_COLOR = new Color(display, new RGB(10, 10, 10));
 	}
 
 	@Override
 	public void initDarkTheme() {
-		GROUP_TOP_COLOR = new Color(DISPLAY, new RGB(88, 110, 117));
-		GROUP_BTM_COLOR = new Color(DISPLAY, new RGB(0, 100, 117));
-		GROUP_TEXT_COLOR = new Color(DISPLAY, new RGB(253, 246, 227));
+		Display display = Display.getDefault();
+		GROUP_TOP_COLOR = new Color(display, new RGB(88, 110, 117));
+		GROUP_BTM_COLOR = new Color(display, new RGB(0, 100, 117));
+		GROUP_TEXT_COLOR = new Color(display, new RGB(253, 246, 227));
 	}
 }
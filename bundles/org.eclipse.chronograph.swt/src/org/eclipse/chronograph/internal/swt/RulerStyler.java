@@ -29,6 +29,8 @@ public class RulerStyler implements Styler {
 	public static final int RULER_DAY_HEIGHT = 20;
 	public static final int RULER_MOUNTH_HEIGHT = 20;
 	public static final int RULER_YEAR_HEIGHT = 20;
+	public static final int RULER_HOUR_HEIGHT = 20;
+	public static final int RULER_MINUTE_HEIGHT = 20;
 
 	public static Color RULER_TOP_COLOR;
 	public static Color RULER_BTM_COLOR;
@@ -37,26 +39,41 @@ public class RulerStyler implements Styler {
 
 	public static Color RULER_CUREENT_DAY_COLOR_TOP;
 	public static Color RULER_CUREENT_DAY_COLOR_BTM;
-	private static final Display DISPLAY = Display.getDefault();
+
+	/**
+	 * The amount of rulers shown at once, the time tiers of the rulers are chosen
+	 * by the zoom
+	 */
+	public static final int RULER_ROWS = 3;
+
+	/**
+	 * 
+	 * @return the total height of the rulers
+	 */
+	public static int getRulersHeight() {
+		return RULER_ROWS * RULER_DAY_HEIGHT;
+	}
 
 	@Override
 	public void initClassicTheme() {
-		RULER_TOP_COLOR = new Color(DISPLAY, new RGB(200, 200, 200));
-		RULER_BTM_COLOR = new Color(DISPLAY, new RGB(220, 220, 220));
-		RULER_BRD_COLOR = new Color(DISPLAY, new RGB(220, 220, 220));
-		RULER_TEXT_COLOR = new Color(DISPLAY, new RGB(50, 80, 130));
-		RULER_CUREENT_DAY_COLOR_TOP = new Color(DISPLAY, new RGB(240, 120, 80));
-		RULER_CUREENT_DAY_COLOR_BTM = new Color(DISPLAY, new RGB(220, 220, 220));
+		Display display = Display.getDefault();
+		RULER_TOP_COLOR = new Color(display, new RGB(200, 200, 200));
+		RULER_BTM_COLOR = new Color(display, new RGB(220, 220, 220));
+		RULER_BRD_COLOR = new Color(display, new RGB(220, 220, 220));
+		RULER_TEXT_COLOR = new Color(display, new RGB(50, 80, 130));
+		RULER_CUREENT_DAY_COLOR_TOP = new Color(display, new RGB(240, 120, 80));
+		RULER_CUREENT_DAY_COLOR_BTM = new Color(display, new RGB(220, 220, 220));
 	}
 
 	@Override
 	public void initDarkTheme() {
-		RULER_TOP_COLOR = new Color(DISPLAY, new RGB(106, 155, 164));
-		RULER_BTM_COLOR = new Color(DISPLAY, new RGB(55, 99, 124));
-		RULER_BRD_COLOR = new Color(DISPLAY, new RGB(0, 100, 117));
-		RULER_TEXT_COLOR = new Color(DISPLAY, new RGB(220, 220, 220));
-		RULER_CUREENT_DAY_COLOR_TOP = new Color(DISPLAY, new RGB(255, 148, 0));
-		RULER_CUREENT_DAY_COLOR_BTM = new Color(DISPLAY, new RGB(55,99,120)) ;
+		Display display = Display.getDefault();
+		RULER_TOP_COLOR = new Color(display, new RGB(106, 155, 164));
+		RULER_BTM_COLOR = new Color(display, new RGB(55, 99, 124));
+		RULER_BRD_COLOR = new Color(display, new RGB(0, 100, 117));
+		RULER_TEXT_COLOR = new Color(display, new RGB(220, 220, 220));
+		RULER_CUREENT_DAY_COLOR_TOP = new Color(display, new RGB(255, 148, 0));
+		RULER_CUREENT_DAY_COLOR_BTM = new Color(display, new RGB(55,99,120)) ;
 		
 	}
 }
@@ -13,15 +13,17 @@
  *******************************************************************************/
 package org.eclipse.chronograph.internal.swt;
 
-import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.chronograph.internal.api.Chronograph;
 import org.eclipse.chronograph.internal.api.data.Resolution;
+import org.eclipse.chronograph.internal.api.metrics.Metrics;
 import org.eclipse.chronograph.internal.api.representation.Decoration;
 import org.eclipse.chronograph.internal.api.representation.Style;
 import org.eclipse.chronograph.internal.api.representation.Styler;
+import org.eclipse.chronograph.internal.base.LiveFeed;
 import org.eclipse.chronograph.internal.base.UnitConverter;
 import org.eclipse.chronograph.internal.swt.stage.Stage;
 import org.eclipse.swt.SWT;
@@ -40,9 +42,14 @@ public class SWTChronograph<D> implements Chronograph {
 	private final List<Styler> stylers;
 
 	public SWTChronograph(Composite parent, Resolution<D> access, Decoration<D, Image> provider) {
-		this.stage = new Stage<>(parent, access, provider);
+		this(parent, access, provider, UnitConverter.DEFAULT);
+	}
+
+	public SWTChronograph(Composite parent, Resolution<D> access, Decoration<D, Image> provider,
+			UnitConverter converter) {
+		this.stage = new Stage<>(parent, access, provider, converter);
 		this.stage.setLayoutData(new GridData(SWT.FILL, SWT.FILL, true, true, 1, 1));
-		this.stage.navigateToUnit(UnitConverter.localDatetoUnits(LocalDate.now().minusDays(7)));
+		this.stage.navigateToUnit(converter.toUnits(System.currentTimeMillis()) - converter.span(7, TimeUnit.DAYS));
 		stylers = new ArrayList<>();
 		stylers.add(new BrickStyler());
 		stylers.add(new StageStyler());
@@ -78,10 +85,23 @@ public class SWTChronograph<D> implements Chronograph {
 		stage.refresh();
 	}
 
+	@Override
+	public Metrics metrics() {
+		return stage.metrics();
+	}
+
 	public void reset() {
 		stage.reset();
 	}
 
+	/**
+	 * 
+	 * @param feed the live feed to follow or <code>null</code> to stop
+	 */
+	public void follow(LiveFeed<D> feed) {
+		stage.follow(feed);
+	}
+
 	public void zoomUp() {
 		stage.setZoomLevelUp();
 	}
@@ -26,7 +26,6 @@ import org.eclipse.swt.widgets.Display;
  *
  */
 public class SectionStyler implements Styler {
-	private static final Display DISPLAY = Display.getDefault();
 	private static final int SECTION_WIDTH = 30;
 	private static final int SECTION_SEPARATOR_HEIGTH = 5;
 
@@ -44,15 +43,17 @@ public class SectionStyler implements Styler {
 
 	@Override
 	public void initClassicTheme() {
-		SECTION_TOP_COLOR = new Color(DISPLAY, new RGB(220, 220, 220));
-		SECTION_BTM_COLOR = new Color(DISPLAY, new RGB(150, 150, 150));
-		SECTION_TEXT_COLOR = new Color(DISPLAY, new RGB(10, 10, 10));
+		Display display = Display.getDefault();
+		SECTION_TOP_COLOR = new Color(display, new RGB(220, 220, 220));
+		SECTION_BTM_COLOR = new Color(display, new RGB(150, 150, 150));
+		SECTION_TEXT_COLOR = new Color(display, new RGB(10, 10, 10));
 	}
 
 	@Override
 	public void initDarkTheme() {
-		SECTION_TOP_COLOR = new Color(DISPLAY, new RGB(88, 110, 117));
-		SECTION_BTM_COLOR = new Color(DISPLAY, new RGB(0, 100, 117));
-		SECTION_TEXT_COLOR = new Color(DISPLAY, new RGB(253, 246, 227));
+		Display display = Display.getDefault();
+		SECTION_TOP_COLOR = new Color(display, new RGB(88, 110, 117));
+		SECTION_BTM_COLOR = new Color(display, new RGB(0, 100, 117));
+		SECTION_TEXT_COLOR = new Color(display, new RGB(253, 246, 227));
 	}
 }
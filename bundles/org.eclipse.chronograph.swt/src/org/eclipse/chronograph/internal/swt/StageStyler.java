@@ -25,7 +25,6 @@ import org.eclipse.swt.widgets.Display;
  *
  */
 public class StageStyler implements Styler {
-	private final static Display DISPLAY = Display.getDefault();
 	private static int STAGE_HEADER_HEIGHT = 30;
 	public static Color STAGE_BG_COLOR;
 	public static Color STAGE_TOP_COLOR;
@@ -37,15 +36,17 @@ public class StageStyler implements Styler {
 
 	@Override
 	public void initClassicTheme() {
-		STAGE_BG_COLOR = new Color(DISPLAY, new RGB(235, 235, 235));
-		STAGE_TOP_COLOR = new Color(DISPLAY, new RGB(220, 220, 220));
-		STAGE_TEXT_COLOR = new Color(DISPLAY, new RGB(10, 10, 10));
+		Display display = Display.getDefault();
+		STAGE_BG_COLOR = new Color(display, new RGB(235, 235, 235));
+		STAGE_TOP_COLOR = new Color(display, new RGB(220, 220, 220));
+		STAGE_TEXT_COLOR = new Color(display, new RGB(10, 10, 10));
 	}
 
 	@Override
 	public void initDarkTheme() {
-		STAGE_BG_COLOR = new Color(DISPLAY, new RGB(39, 39, 39));
-		STAGE_TOP_COLOR = new Color(DISPLAY, new RGB(88, 110, 117));
-		STAGE_TEXT_COLOR = new Color(DISPLAY, new RGB(253, 246, 227));
+		Display display = Display.getDefault();
+		STAGE_BG_COLOR = new Color(display, new RGB(39, 39, 39));
+		STAGE_TOP_COLOR = new Color(display, new RGB(88, 110, 117));
+		STAGE_TEXT_COLOR = new Color(display, new RGB(253, 246, 227));
 	}
 }
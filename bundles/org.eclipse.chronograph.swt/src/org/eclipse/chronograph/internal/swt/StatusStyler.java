@@ -25,19 +25,20 @@ import org.eclipse.swt.widgets.Display;
  *
  */
 public class StatusStyler implements Styler {
-	private static final Display DISPLAY = Display.getDefault();
 	public static Color LICENSE_EXPIRED_COLOR;
 	public static Color LICENSE_ACTUAL_COLOR;
 
 	@Override
 	public void initClassicTheme() {
-		LICENSE_EXPIRED_COLOR = new Color(DISPLAY, new RGB(165, 10, 10));
-		LICENSE_ACTUAL_COLOR = new Color(DISPLAY, new RGB(0, 102, 0));
+		Display display = Display.getDefault();
+		LICENSE_EXPIRED_COLOR = new Color(display, new RGB(165, 10, 10));
+		LICENSE_ACTUAL_COLOR = new Color(display, new RGB(0, 102, 0));
 	}
 
 	@Override
 	public void initDarkTheme() {
-		LICENSE_EXPIRED_COLOR = new Color(DISPLAY, new RGB(165, 10, 10));
-		LICENSE_ACTUAL_COLOR = new Color(DISPLAY, new RGB(0, 102, 0));
+		Display display = Display.getDefault();
+		LICENSE_EXPIRED_COLOR = new Color(display, new RGB(165, 10, 10));
+		LICENSE_ACTUAL_COLOR = new Color(display, new RGB(0, 102, 0));
 	}
 }
@@ -14,9 +14,7 @@
 
 package org.eclipse.chronograph.internal.swt.renderers.api;
 
-import org.eclipse.swt.graphics.GC;
 import org.eclipse.swt.graphics.Rectangle;
-import org.eclipse.swt.widgets.Display;
 
 /**
  * 
@@ -24,5 +22,5 @@ import org.eclipse.swt.widgets.Display;
  *
  */
 public interface ChronographGroupRenderer {
-	void draw(GC gc, String label, Rectangle groupBound, Display display, int width, int hintY);
+	void draw(Surface surface, String label, Rectangle groupBound, int width, int hintY);
 }
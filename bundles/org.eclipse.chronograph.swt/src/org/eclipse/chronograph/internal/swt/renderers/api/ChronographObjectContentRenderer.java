@@ -14,7 +14,6 @@
 package org.eclipse.chronograph.internal.swt.renderers.api;
 
 import org.eclipse.chronograph.internal.api.graphics.Brick;
-import org.eclipse.swt.graphics.GC;
 import org.eclipse.swt.graphics.Rectangle;
 
 /**
@@ -25,5 +24,5 @@ import org.eclipse.swt.graphics.Rectangle;
  */
 public interface ChronographObjectContentRenderer<D> {
 
-	public void draw(Brick<D> obj, GC gc, Rectangle bounds, int vOffset);
+	public void draw(Brick<D> obj, Surface surface, Rectangle bounds, int vOffset);
 }
@@ -14,7 +14,6 @@
 package org.eclipse.chronograph.internal.swt.renderers.api;
 
 import org.eclipse.chronograph.internal.api.graphics.Brick;
-import org.eclipse.swt.graphics.GC;
 
 /**
  * 
@@ -24,6 +23,6 @@ import org.eclipse.swt.graphics.GC;
  */
 public interface ChronographObjectExtRenderer<D> {
 
-	public void drawObjectDuration(Brick<D> to, GC gc, int vOffset);
+	public void drawObjectDuration(Brick<D> to, Surface surface, int vOffset);
 
 }
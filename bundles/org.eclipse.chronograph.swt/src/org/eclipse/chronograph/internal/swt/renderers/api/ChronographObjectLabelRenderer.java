@@ -15,7 +15,6 @@ package org.eclipse.chronograph.internal.swt.renderers.api;
 
 import org.eclipse.chronograph.internal.api.graphics.Brick;
 import org.eclipse.chronograph.internal.api.graphics.Position;
-import org.eclipse.swt.graphics.GC;
 import org.eclipse.swt.graphics.Rectangle;
 
 /**
@@ -26,7 +25,7 @@ import org.eclipse.swt.graphics.Rectangle;
  */
 public interface ChronographObjectLabelRenderer<D> {
 
-	public void drawLabel(String label, Position brickPosition, GC gc, Rectangle objectBounds, int vOffset, int scale,
-			int zoom);
+	public void drawLabel(String label, Position brickPosition, Surface surface, Rectangle objectBounds, int vOffset,
+			double scale, int zoom);
 
 }
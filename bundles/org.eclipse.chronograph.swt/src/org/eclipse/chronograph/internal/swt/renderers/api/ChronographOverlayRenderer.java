@@ -0,0 +1,37 @@
+/*******************************************************************************
+ *	Copyright (c) 2020 ArSysOp
+ *
+ *	This program and the accompanying materials are made available under the
+ *	terms of the Eclipse Public License 2.0 which is available at
+ *	http://www.eclipse.org/legal/epl-2.0.
+ *
+ *	SPDX-License-Identifier: EPL-2.0
+ *
+ *	Contributors:
+ *	Sergei Kovalchuk <sergei.kovalchuk@arsysop.ru> - 
+ *												initial API and implementation
+ *******************************************************************************/
+package org.eclipse.chronograph.internal.swt.renderers.api;
+
+import org.eclipse.chronograph.internal.api.metrics.Metrics;
+import org.eclipse.chronograph.internal.base.flight.Flight.Phase;
+import org.eclipse.swt.graphics.Rectangle;
+
+/**
+ * 
+ * Interface intended to render the performance overlay on stage
+ *
+ */
+public interface ChronographOverlayRenderer {
+
+	/**
+	 * 
+	 * @param surface the surface to paint on
+	 * @param bounds  the visible area
+	 * @param phases  the nanoseconds spent by the frame in every {@link Phase},
+	 *                indexed by its ordinal
+	 * @param metrics the metrics of the stage
+	 */
+	void draw(Surface surface, Rectangle bounds, long[] phases, Metrics metrics);
+
+}
@@ -14,9 +14,7 @@
 package org.eclipse.chronograph.internal.swt.renderers.api;
 
 import org.eclipse.chronograph.internal.api.graphics.Group;
-import org.eclipse.swt.graphics.GC;
 import org.eclipse.swt.graphics.Rectangle;
-import org.eclipse.swt.widgets.Display;
 
 /**
  * 
@@ -25,6 +23,6 @@ import org.eclipse.swt.widgets.Display;
  */
 public interface ChronographSectionRenderer {
 
-	public void draw(GC gc, String label, Rectangle bounds, Display display, int width, int hintY);
+	public void draw(Surface surface, String label, Rectangle bounds, int width, int hintY);
 
 }
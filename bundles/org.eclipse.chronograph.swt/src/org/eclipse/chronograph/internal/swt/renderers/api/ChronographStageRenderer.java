@@ -13,7 +13,6 @@
  *******************************************************************************/
 package org.eclipse.chronograph.internal.swt.renderers.api;
 
-import org.eclipse.swt.graphics.GC;
 import org.eclipse.swt.graphics.Rectangle;
 
 /**
@@ -24,6 +23,6 @@ import org.eclipse.swt.graphics.Rectangle;
  */
 public interface ChronographStageRenderer {
 
-	void draw(GC gc, Rectangle bounds);
+	void draw(Surface surface, Rectangle bounds);
 
 }
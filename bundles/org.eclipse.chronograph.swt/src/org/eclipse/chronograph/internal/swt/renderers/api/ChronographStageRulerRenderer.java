@@ -13,7 +13,6 @@
  *******************************************************************************/
 package org.eclipse.chronograph.internal.swt.renderers.api;
 
-import org.eclipse.swt.graphics.GC;
 import org.eclipse.swt.graphics.Rectangle;
 
 /**
@@ -23,6 +22,13 @@ import org.eclipse.swt.graphics.Rectangle;
  */
 public interface ChronographStageRulerRenderer {
 
-	void draw(GC gc, Rectangle globalBounds, int scale, int width, int offset, int xAxis);
+	/**
+	 * 
+	 * @param surface      the surface to paint on
+	 * @param globalBounds the visible area
+	 * @param pixels       the amount of pixels per unit, may be fractional
+	 * @param offset       the first visible unit
+	 */
+	void draw(Surface surface, Rectangle globalBounds, double pixels, long offset);
 
 }
@@ -13,7 +13,6 @@
  *******************************************************************************/
 package org.eclipse.chronograph.internal.swt.renderers.api;
 
-import org.eclipse.swt.graphics.GC;
 import org.eclipse.swt.graphics.Rectangle;
 
 /**
@@ -23,6 +22,6 @@ import org.eclipse.swt.graphics.Rectangle;
  */
 public interface ChronographStatusRenderer {
 
-	void draw(GC gc, Rectangle bounds, int actual, int expired, int hintY);
+	void draw(Surface surface, Rectangle bounds, int actual, int expired, int hintY);
 
 }
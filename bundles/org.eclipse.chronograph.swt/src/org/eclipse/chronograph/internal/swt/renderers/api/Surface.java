@@ -0,0 +1,93 @@
+/*******************************************************************************
+ *	Copyright (c) 2020 ArSysOp
+ *
+ *	This program and the accompanying materials are made available under the
+ *	terms of the Eclipse Public License 2.0 which is available at
+ *	http://www.eclipse.org/legal/epl-2.0.
+ *
+ *	SPDX-License-Identifier: EPL-2.0
+ *
+ *	Contributors:
+ *	Sergei Kovalchuk <sergei.kovalchuk@arsysop.ru> - 
+ *												initial API and implementation
+ *******************************************************************************/
+package org.eclipse.chronograph.internal.swt.renderers.api;
+
+import org.eclipse.swt.graphics.Color;
+import org.eclipse.swt.graphics.GC;
+
+/**
+ *
+ * The drawing surface the renderers target, the subset of {@link GC} they use.
+ * The methods follow the {@link GC} ones, so the surface may be backed by a
+ * {@link GC} or by the display-independent implementation
+ *
+ */
+public interface Surface {
+
+	void setForeground(Color color);
+
+	void setBackground(Color color);
+
+	/**
+	 *
+	 * @param antialias one of <code>SWT.DEFAULT</code>, <code>SWT.OFF</code> or
+	 *                  <code>SWT.ON</code>
+	 */
+	void setAntialias(int antialias);
+
+	/**
+	 *
+	 * @param style one of the <code>SWT.LINE_*</code> styles
+	 */
+	void setLineStyle(int style);
+
+	/**
+	 * Translates and then rotates the coordinates of the following drawing
+	 *
+	 * @param dx    the translation along the x axis
+	 * @param dy    the translation along the y axis
+	 * @param angle the rotation angle in degrees
+	 */
+	void transform(float dx, float dy, float angle);
+
+	/**
+	 * Restores the identity transform
+	 */
+	void resetTransform();
+
+	void drawLine(int x1, int y1, int x2, int y2);
+
+	void drawRectangle(int x, int y, int width, int height);
+
+	void fillRectangle(int x, int y, int width, int height);
+
+	void fillGradientRectangle(int x, int y, int width, int height, boolean vertical);
+
+	void drawRoundRectangle(int x, int y, int width, int height, int arcWidth, int arcHeight);
+
+	void fillRoundRectangle(int x, int y, int width, int height, int arcWidth, int arcHeight);
+
+	void fillOval(int x, int y, int width, int height);
+
+	void drawString(String string, int x, int y, boolean transparent);
+
+	void drawText(String string, int x, int y, boolean transparent);
+
+	/**
+	 *
+	 * @param string the string to measure
+	 * @return the width of the string drawn with the current font, see
+	 *         {@link GC#stringExtent(String)}
+	 */
+	int stringWidth(String string);
+
+	int getCharWidth(char ch);
+
+	/**
+	 *
+	 * @return the height of the current font
+	 */
+	int getFontHeight();
+
+}
@@ -0,0 +1,113 @@
+/*******************************************************************************
+ *	Copyright (c) 2020 ArSysOp
+ *
+ *	This program and the accompanying materials are made available under the
+ *	terms of the Eclipse Public License 2.0 which is available at
+ *	http://www.eclipse.org/legal/epl-2.0.
+ *
+ *	SPDX-License-Identifier: EPL-2.0
+ *
+ *	Contributors:
+ *	Sergei Kovalchuk <sergei.kovalchuk@arsysop.ru> - 
+ *												initial API and implementation
+ *******************************************************************************/
+package org.eclipse.chronograph.internal.swt.renderers.impl;
+
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+
+import org.eclipse.chronograph.internal.base.UnitConverter;
+import org.eclipse.chronograph.internal.swt.RulerStyler;
+import org.eclipse.chronograph.internal.swt.renderers.api.ChronographStageRulerRenderer;
+import org.eclipse.chronograph.internal.swt.renderers.api.Surface;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Rectangle;
+
+/**
+ * 
+ * Base render implementation for the ruler of the given time tier. The ruler
+ * is shown only if the tier is chosen for the current amount of pixels per
+ * unit, see {@link Ticks}, every tick of the tier gets its own cell
+ *
+ */
+public abstract class AbstractRulerRenderer implements ChronographStageRulerRenderer {
+
+	/**
+	 * The narrowest visible part of the cell to draw the label in, in pixels
+	 */
+	private static final int LABEL_WIDTH_MIN = 10;
+
+	private final Ticks ticks;
+	private final ChronoUnit tier;
+	private final int height;
+	private final Date date = new Date();
+	private final UnitLabels labels = new UnitLabels(1024);
+	private int labelsWidth;
+
+	/**
+	 * 
+	 * @param converter the time base
+	 * @param tier      the time tier of the ruler
+	 * @param height    the height of the ruler
+	 */
+	protected AbstractRulerRenderer(UnitConverter converter, ChronoUnit tier, int height) {
+		this.ticks = new Ticks(converter);
+		this.tier = tier;
+		this.height = height;
+	}
+
+	@Override
+	public void draw(Surface surface, Rectangle bounds, double pixels, long offset) {
+		int row = ticks.row(tier, pixels);
+		if (row < 0) {
+			return;
+		}
+		int xMaxPosition = bounds.width + bounds.x;
+		int yBottomPosition = bounds.y + bounds.height - (row + 1) * height;
+		int width = (int) Math.min(Integer.MAX_VALUE, ticks.width(tier, pixels));
+		if (width != labelsWidth) {
+			labels.clear();
+			labelsWidth = width;
+		}
+		surface.setAntialias(SWT.ON);
+		ticks.start(tier, offset, pixels);
+		long tick = ticks.millis();
+		int xPosition = ticks.x();
+		while (xPosition <= xMaxPosition) {
+			ticks.next();
+			long next = ticks.millis();
+			int xNext = ticks.x();
+			surface.setForeground(RulerStyler.RULER_TOP_COLOR);
+			surface.setBackground(RulerStyler.RULER_BTM_COLOR);
+			surface.fillGradientRectangle(xPosition, yBottomPosition, xNext - xPosition, height, true);
+			surface.setForeground(RulerStyler.RULER_BRD_COLOR);
+			surface.drawLine(xPosition, yBottomPosition, xPosition, yBottomPosition + height);
+			int xLabel = Math.max(xPosition, bounds.x);
+			if (xNext - xLabel > LABEL_WIDTH_MIN) {
+				surface.setForeground(RulerStyler.RULER_TEXT_COLOR);
+				surface.drawString(label(tick, width), xLabel + 4, yBottomPosition + 3, true);
+			}
+			tick = next;
+			xPosition = xNext;
+		}
+	}
+
+	private String label(long tick, int width) {
+		String label = labels.get(tick);
+		if (label == null) {
+			date.setTime(tick);
+			label = label(date, width);
+			labels.put(tick, label);
+		}
+		return label;
+	}
+
+	/**
+	 * 
+	 * @param date  the start of the tick
+	 * @param width the nominal width of the tick in pixels
+	 * @return the label for the tick
+	 */
+	protected abstract String label(Date date, int width);
+
+}
@@ -16,10 +16,12 @@ package org.eclipse.chronograph.internal.swt.renderers.impl;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.eclipse.chronograph.internal.base.UnitConverter;
 import org.eclipse.chronograph.internal.swt.renderers.api.ChronographGroupRenderer;
 import org.eclipse.chronograph.internal.swt.renderers.api.ChronographObjectContentRenderer;
 import org.eclipse.chronograph.internal.swt.renderers.api.ChronographObjectExtRenderer;
 import org.eclipse.chronograph.internal.swt.renderers.api.ChronographObjectLabelRenderer;
+import org.eclipse.chronograph.internal.swt.renderers.api.ChronographOverlayRenderer;
 import org.eclipse.chronograph.internal.swt.renderers.api.ChronographSectionRenderer;
 import org.eclipse.chronograph.internal.swt.renderers.api.ChronographStageLinesRenderer;
 import org.eclipse.chronograph.internal.swt.renderers.api.ChronographStageRenderer;
@@ -43,21 +45,29 @@ public class ChronographManagerRenderers<D> {
 	private final ChronographStatusRenderer chronographStatusRenderer;
 	private final ChronographSectionRenderer sectionPinter;
 	private final ChronographStageLinesRenderer chronographStageLinesRenderer;
+	private ChronographOverlayRenderer overlayRenderer;
 
 	public ChronographManagerRenderers() {
-		this.objectContentRenderer = new ObjectContentRendererImpl<>();
-		this.objectLabelRenderer = new ObjectLabelRendererImpl<>();
+		this(UnitConverter.DEFAULT);
+	}
+
+	public ChronographManagerRenderers(UnitConverter converter) {
+		this.objectContentRenderer = new ObjectContentRendererImpl<>(converter);
+		this.objectLabelRenderer = new ObjectLabelRendererImpl<>(converter);
 		this.objectExtensionRenderer = new ObjectExtensionRendererImpl<>();
 		this.objectSelectedRenderer = new ObjectSelectedRendererImpl<>();
 		this.chronographStageRulerRenderers = new ArrayList<>();
-		this.chronographStageLinesRenderer = new StageLinesRendererImpl();
-		this.chronographStageRulerRenderers.add(new RulerDayRendererImpl());
-		this.chronographStageRulerRenderers.add(new RulerMonthRendererImpl());
-		this.chronographStageRulerRenderers.add(new RulerYearRendererImpl());
+		this.chronographStageLinesRenderer = new StageLinesRendererImpl(converter);
+		this.chronographStageRulerRenderers.add(new RulerMinuteRendererImpl(converter));
+		this.chronographStageRulerRenderers.add(new RulerHourRendererImpl(converter));
+		this.chronographStageRulerRenderers.add(new RulerDayRendererImpl(converter));
+		this.chronographStageRulerRenderers.add(new RulerMonthRendererImpl(converter));
+		this.chronographStageRulerRenderers.add(new RulerYearRendererImpl(converter));
 		this.chronographStageRenderer = new StageRendererImpl();
 		this.chronographStatusRenderer = new StatusRendererImpl();
 		this.chronographGroupRenderer = new GroupRendererImpl();
 		this.sectionPinter = new SectionRendererImpl();
+		this.overlayRenderer = new OverlayRendererImpl();
 
 	}
 
@@ -100,4 +110,17 @@ public class ChronographManagerRenderers<D> {
 	public ChronographStageLinesRenderer getStageLinesPainter() {
 		return chronographStageLinesRenderer;
 	}
+
+	public ChronographOverlayRenderer getOverlayPainter() {
+		return overlayRenderer;
+	}
+
+	/**
+	 * Replaces the renderer of the performance overlay
+	 * 
+	 * @param renderer the renderer to use
+	 */
+	public void setOverlayPainter(ChronographOverlayRenderer renderer) {
+		this.overlayRenderer = renderer;
+	}
 }
@@ -0,0 +1,192 @@
+/*******************************************************************************
+ *	Copyright (c) 2020 ArSysOp
+ *
+ *	This program and the accompanying materials are made available under the
+ *	terms of the Eclipse Public License 2.0 which is available at
+ *	http://www.eclipse.org/legal/epl-2.0.
+ *
+ *	SPDX-License-Identifier: EPL-2.0
+ *
+ *	Contributors:
+ *	Sergei Kovalchuk <sergei.kovalchuk@arsysop.ru> - 
+ *												initial API and implementation
+ *******************************************************************************/
+package org.eclipse.chronograph.internal.swt.renderers.impl;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.chronograph.internal.swt.renderers.api.Surface;
+import org.eclipse.swt.graphics.Color;
+import org.eclipse.swt.graphics.Font;
+import org.eclipse.swt.graphics.GC;
+import org.eclipse.swt.graphics.Transform;
+
+/**
+ * 
+ * {@link Surface} drawing with the {@link GC} of the current frame. The
+ * surface is kept for the frames of the same widget: the transform is reused
+ * and the font height and the string widths are cached while the font is the
+ * same, so the frames do not allocate the font metrics and the extents
+ *
+ */
+public final class GCSurface implements Surface {
+
+	private static final int WIDTHS_LIMIT = 4096;
+	private final Map<String, Integer> widths = new HashMap<>();
+	private GC gc;
+	private Font font;
+	private int fontHeight;
+	private Transform transform;
+
+	/**
+	 * Draws the following frame with the given {@link GC}
+	 * 
+	 * @param gc   the graphics context of the frame
+	 * @param font the font the graphics context is initialized with, the
+	 *             cached measurements are dropped if it is changed
+	 */
+	public void attach(GC gc, Font font) {
+		this.gc = gc;
+		if (!font.equals(this.font)) {
+			this.font = font;
+			fontHeight = gc.getFontMetrics().getHeight();
+			widths.clear();
+		}
+	}
+
+	/**
+	 * Completes the frame, the {@link GC} stays with the caller while the
+	 * transform is kept for the next frame
+	 */
+	public void detach() {
+		if (transform != null) {
+			gc.setTransform(null);
+		}
+		gc = null;
+	}
+
+	@Override
+	public void setForeground(Color color) {
+		gc.setForeground(color);
+	}
+
+	@Override
+	public void setBackground(Color color) {
+		gc.setBackground(color);
+	}
+
+	@Override
+	public void setAntialias(int antialias) {
+		gc.setAntialias(antialias);
+	}
+
+	@Override
+	public void setLineStyle(int style) {
+		gc.setLineStyle(style);
+	}
+
+	@Override
+	public void transform(float dx, float dy, float angle) {
+		if (transform == null) {
+			transform = new Transform(gc.getDevice());
+		} else {
+			transform.identity();
+		}
+		transform.translate(dx, dy);
+		transform.rotate(angle);
+		gc.setTransform(transform);
+	}
+
+	@Override
+	public void resetTransform() {
+		if (transform == null) {
+			return;
+		}
+		gc.setTransform(null);
+	}
+
+	/**
+	 * Disposes the transform reused by the frames, the {@link GC} stays with the
+	 * caller
+	 */
+	public void dispose() {
+		if (gc != null) {
+			detach();
+		}
+		if (transform == null) {
+			return;
+		}
+		transform.dispose();
+		transform = null;
+	}
+
+	@Override
+	public void drawLine(int x1, int y1, int x2, int y2) {
+		gc.drawLine(x1, y1, x2, y2);
+	}
+
+	@Override
+	public void drawRectangle(int x, int y, int width, int height) {
+		gc.drawRectangle(x, y, width, height);
+	}
+
+	@Override
+	public void fillRectangle(int x, int y, int width, int height) {
+		gc.fillRectangle(x, y, width, height);
+	}
+
+	@Override
+	public void fillGradientRectangle(int x, int y, int width, int height, boolean vertical) {
+		gc.fillGradientRectangle(x, y, width, height, vertical);
+	}
+
+	@Override
+	public void drawRoundRectangle(int x, int y, int width, int height, int arcWidth, int arcHeight) {
+		gc.drawRoundRectangle(x, y, width, height, arcWidth, arcHeight);
+	}
+
+	@Override
+	public void fillRoundRectangle(int x, int y, int width, int height, int arcWidth, int arcHeight) {
+		gc.fillRoundRectangle(x, y, width, height, arcWidth, arcHeight);
+	}
+
+	@Override
+	public void fillOval(int x, int y, int width, int height) {
+		gc.fillOval(x, y, width, height);
+	}
+
+	@Override
+	public void drawString(String string, int x, int y, boolean transparent) {
+		gc.drawString(string, x, y, transparent);
+	}
+
+	@Override
+	public void drawText(String string, int x, int y, boolean transparent) {
+		gc.drawText(string, x, y, transparent);
+	}
+
+	@Override
+	public int stringWidth(String string) {
+		Integer width = widths.get(string);
+		if (width == null) {
+			if (widths.size() > WIDTHS_LIMIT) {
+				widths.clear();
+			}
+			width = gc.stringExtent(string).x;
+			widths.put(string, width);
+		}
+		return width;
+	}
+
+	@Override
+	public int getCharWidth(char ch) {
+		return gc.getCharWidth(ch);
+	}
+
+	@Override
+	public int getFontHeight() {
+		return fontHeight;
+	}
+
+}
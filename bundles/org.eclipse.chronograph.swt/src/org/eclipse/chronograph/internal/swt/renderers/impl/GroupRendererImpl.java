@@ -16,12 +16,9 @@ package org.eclipse.chronograph.internal.swt.renderers.impl;
 import org.eclipse.chronograph.internal.api.graphics.Group;
 import org.eclipse.chronograph.internal.swt.GroupStyler;
 import org.eclipse.chronograph.internal.swt.renderers.api.ChronographGroupRenderer;
+import org.eclipse.chronograph.internal.swt.renderers.api.Surface;
 import org.eclipse.swt.SWT;
-import org.eclipse.swt.graphics.GC;
-import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.graphics.Rectangle;
-import org.eclipse.swt.graphics.Transform;
-import org.eclipse.swt.widgets.Display;
 
 /**
  * 
@@ -33,44 +30,27 @@ public class GroupRendererImpl implements ChronographGroupRenderer {
 	private final Labels labels = new Labels();
 
 	@Override
-	public void draw(GC gc, String label, Rectangle groupBound, Display display, int width, int hintY) {
-		int fontHeight = gc.getFontMetrics().getHeight();
-		final Rectangle groupRectangle = new Rectangle(groupBound.x, groupBound.y - hintY, width, groupBound.height);
-		gc.setForeground(GroupStyler.GROUP_TOP_COLOR);
-		gc.setBackground(GroupStyler.GROUP_BTM_COLOR);
-		gc.setAntialias(SWT.ON);
-		gc.setForeground(GroupStyler.GROUP_BTM_COLOR);
-		gc.setBackground(GroupStyler.GROUP_TOP_COLOR);
-		gc.fillRoundRectangle(groupRectangle.x, groupRectangle.y, groupRectangle.width, groupRectangle.height, width,
-				width);
-		gc.drawRoundRectangle(groupRectangle.x, groupRectangle.y, groupRectangle.width, groupRectangle.height, width,
-				width);
-		gc.setForeground(GroupStyler.GROUP_BTM_COLOR);
-		gc.drawRoundRectangle(groupBound.x, groupBound.y - hintY, groupBound.width, groupBound.height, width, width);
-
-		Point stringExtent = gc.stringExtent(label);
-
-		String msg = calculateLabel(gc, label, groupRectangle, stringExtent);
-
-		stringExtent = gc.stringExtent(msg);
-		Transform tr = new Transform(display);
-		tr.translate(groupRectangle.x, groupRectangle.y);
-		tr.rotate(-90);
-		gc.setTransform(tr);
-		gc.setForeground(GroupStyler.GROUP_TEXT_COLOR);
-		gc.drawString(msg, -groupRectangle.height + (groupRectangle.height - stringExtent.x) / 2, fontHeight / 2, true);
-
-		tr.dispose();
-		gc.setTransform(null);
-	}
-
-	private String calculateLabel(GC gc, String label, Rectangle rectangle, Point extent) {
-		int limit = rectangle.height;
-		if (extent.x > limit) {
-			return labels.fit(label, limit, gc);
-		} else {
-			return label;
-		}
+	public void draw(Surface surface, String label, Rectangle groupBound, int width, int hintY) {
+		int fontHeight = surface.getFontHeight();
+		int x = groupBound.x;
+		int y = groupBound.y - hintY;
+		int height = groupBound.height;
+		surface.setForeground(GroupStyler.GROUP_TOP_COLOR);
+		surface.setBackground(GroupStyler.GROUP_BTM_COLOR);
+		surface.setAntialias(SWT.ON);
+		surface.setForeground(GroupStyler.GROUP_BTM_COLOR);
+		surface.setBackground(GroupStyler.GROUP_TOP_COLOR);
+		surface.fillRoundRectangle(x, y, width, height, width, width);
+		surface.drawRoundRectangle(x, y, width, height, width, width);
+		surface.setForeground(GroupStyler.GROUP_BTM_COLOR);
+		surface.drawRoundRectangle(x, y, groupBound.width, height, width, width);
+
+		String msg = labels.fit(label, height, surface);
+		int extent = labels.width(label, height, surface);
+		surface.transform(x, y, -90);
+		surface.setForeground(GroupStyler.GROUP_TEXT_COLOR);
+		surface.drawString(msg, -height + (height - extent) / 2, fontHeight / 2, true);
+		surface.resetTransform();
 	}
 
 }
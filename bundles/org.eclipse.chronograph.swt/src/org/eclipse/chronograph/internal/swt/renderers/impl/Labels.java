@@ -12,19 +12,69 @@
  *******************************************************************************/
 package org.eclipse.chronograph.internal.swt.renderers.impl;
 
-import org.eclipse.swt.graphics.GC;
-import org.eclipse.swt.graphics.Point;
+import java.util.HashMap;
+import java.util.Map;
 
+import org.eclipse.chronograph.internal.swt.renderers.api.Surface;
+
+/**
+ * 
+ * Fits the labels into the given length. The fitted labels and their widths
+ * are cached by the label and the length while the font height is the same, so
+ * the static labels are not measured again on every paint
+ *
+ */
 public class Labels {
 
-	String fit(String label, int limit, GC gc) {
+	private static final int CACHE_LIMIT = 4096;
+	private final Map<String, Fitted> fitted = new HashMap<>();
+	private int fontHeight;
+
+	/**
+	 * 
+	 * @param label   the label to fit
+	 * @param limit   the available length
+	 * @param surface the surface to measure the text
+	 * @return the label cut with the ellipsis if it is longer than the limit
+	 */
+	String fit(String label, int limit, Surface surface) {
+		return fitted(label, limit, surface).text;
+	}
+
+	/**
+	 * 
+	 * @param label   the label to fit
+	 * @param limit   the available length
+	 * @param surface the surface to measure the text
+	 * @return the width of the fitted label
+	 */
+	int width(String label, int limit, Surface surface) {
+		return fitted(label, limit, surface).width;
+	}
+
+	private Fitted fitted(String label, int limit, Surface surface) {
+		int height = surface.getFontHeight();
+		if (height != fontHeight || fitted.size() > CACHE_LIMIT) {
+			fitted.clear();
+			fontHeight = height;
+		}
+		Fitted result = fitted.get(label);
+		if (result == null || result.limit != limit) {
+			String text = surface.stringWidth(label) > limit ? cut(label, limit, surface) : label;
+			result = new Fitted(limit, text, surface.stringWidth(text));
+			fitted.put(label, result);
+		}
+		return result;
+	}
+
+	private String cut(String label, int limit, Surface surface) {
 		StringBuilder builder = new StringBuilder();
 		String ellipsis = "..."; //$NON-NLS-1$
-		Point point = gc.stringExtent(ellipsis);
+		int ellipsisWidth = surface.stringWidth(ellipsis);
 		int consumed = 0;
 		for (char ch : label.toCharArray()) {
-			consumed += gc.getCharWidth(ch);
-			if (consumed < limit - point.x) {
+			consumed += surface.getCharWidth(ch);
+			if (consumed < limit - ellipsisWidth) {
 				builder.append(ch);
 			} else {
 				builder.append(ellipsis);
@@ -33,4 +83,17 @@ public class Labels {
 		}
 		return builder.toString();
 	}
+
+	private static final class Fitted {
+
+		final int limit;
+		final String text;
+		final int width;
+
+		Fitted(int limit, String text, int width) {
+			this.limit = limit;
+			this.text = text;
+			this.width = width;
+		}
+	}
 }
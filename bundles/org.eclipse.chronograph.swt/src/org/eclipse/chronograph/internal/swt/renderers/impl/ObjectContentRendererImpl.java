@@ -13,14 +13,12 @@
  *******************************************************************************/
 package org.eclipse.chronograph.internal.swt.renderers.impl;
 
-import java.time.LocalDate;
-
 import org.eclipse.chronograph.internal.api.graphics.Brick;
 import org.eclipse.chronograph.internal.base.UnitConverter;
 import org.eclipse.chronograph.internal.swt.BrickStyler;
 import org.eclipse.chronograph.internal.swt.renderers.api.ChronographObjectContentRenderer;
+import org.eclipse.chronograph.internal.swt.renderers.api.Surface;
 import org.eclipse.swt.SWT;
-import org.eclipse.swt.graphics.GC;
 import org.eclipse.swt.graphics.Rectangle;
 
 /**
@@ -31,30 +29,39 @@ import org.eclipse.swt.graphics.Rectangle;
  */
 public class ObjectContentRendererImpl<D> implements ChronographObjectContentRenderer<D> {
 
+	private final UnitConverter converter;
+
+	public ObjectContentRendererImpl() {
+		this(UnitConverter.DEFAULT);
+	}
+
+	public ObjectContentRendererImpl(UnitConverter converter) {
+		this.converter = converter;
+	}
+
 	@Override
-	public void draw(Brick<D> object, GC gc, Rectangle bounds, int vOffset) {
-		LocalDate now = LocalDate.now();
-		LocalDate start = UnitConverter.unitsToLocalDate((int) object.position().start());
-		LocalDate end = UnitConverter.unitsToLocalDate((int) object.position().end());
-		gc.setAntialias(SWT.ON);
-		gc.setBackground(BrickStyler.getColorBottom());
-
-		if (now.isAfter(start) && now.isBefore(end)) {
-			gc.setForeground(BrickStyler.getColorBottom());
-			gc.setBackground(BrickStyler.getActiveColorTop());
+	public void draw(Brick<D> object, Surface surface, Rectangle bounds, int vOffset) {
+		long now = converter.toUnits(System.currentTimeMillis());
+		boolean actual = now > object.position().start() && now < object.position().end();
+		surface.setAntialias(SWT.ON);
+		surface.setBackground(BrickStyler.getColorBottom());
+
+		if (actual) {
+			surface.setForeground(BrickStyler.getColorBottom());
+			surface.setBackground(BrickStyler.getActiveColorTop());
 		} else {
-			gc.setForeground(BrickStyler.getColorTop());
-			gc.setBackground(BrickStyler.getColorBottom());
+			surface.setForeground(BrickStyler.getColorTop());
+			surface.setBackground(BrickStyler.getColorBottom());
 		}
-		gc.fillRoundRectangle(bounds.x, bounds.y, bounds.width, bounds.height, bounds.height, bounds.height);
+		surface.fillRoundRectangle(bounds.x, bounds.y, bounds.width, bounds.height, bounds.height, bounds.height);
 
-		if (now.isAfter(start) && now.isBefore(end)) {
-			gc.setForeground(BrickStyler.getColorBottom());
-			gc.setBackground(BrickStyler.getColorBottom());
+		if (actual) {
+			surface.setForeground(BrickStyler.getColorBottom());
+			surface.setBackground(BrickStyler.getColorBottom());
 		} else {
-			gc.setForeground(BrickStyler.getActiveColorTop());
-			gc.setBackground(BrickStyler.getActiveColorTop());
+			surface.setForeground(BrickStyler.getActiveColorTop());
+			surface.setBackground(BrickStyler.getActiveColorTop());
 		}
-		gc.fillOval(bounds.x - bounds.height / 10, bounds.y, bounds.height, bounds.height);
+		surface.fillOval(bounds.x - bounds.height / 10, bounds.y, bounds.height, bounds.height);
 	}
 }
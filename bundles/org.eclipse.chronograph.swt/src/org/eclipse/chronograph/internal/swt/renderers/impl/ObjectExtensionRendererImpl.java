@@ -15,7 +15,7 @@ package org.eclipse.chronograph.internal.swt.renderers.impl;
 
 import org.eclipse.chronograph.internal.api.graphics.Brick;
 import org.eclipse.chronograph.internal.swt.renderers.api.ChronographObjectExtRenderer;
-import org.eclipse.swt.graphics.GC;
+import org.eclipse.chronograph.internal.swt.renderers.api.Surface;
 
 /**
  * 
@@ -25,6 +25,6 @@ import org.eclipse.swt.graphics.GC;
 public class ObjectExtensionRendererImpl<D> implements ChronographObjectExtRenderer<D> {
 
 	@Override
-	public void drawObjectDuration(Brick<D> to, GC gc, int vOffset) {
+	public void drawObjectDuration(Brick<D> to, Surface surface, int vOffset) {
 	}
 }
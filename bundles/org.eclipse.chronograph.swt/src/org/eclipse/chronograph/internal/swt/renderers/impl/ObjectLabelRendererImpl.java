@@ -13,16 +13,17 @@
  *******************************************************************************/
 package org.eclipse.chronograph.internal.swt.renderers.impl;
 
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
 import org.eclipse.chronograph.internal.api.graphics.Brick;
 import org.eclipse.chronograph.internal.api.graphics.Position;
 import org.eclipse.chronograph.internal.base.UnitConverter;
 import org.eclipse.chronograph.internal.swt.BrickStyler;
 import org.eclipse.chronograph.internal.swt.StageStyler;
 import org.eclipse.chronograph.internal.swt.renderers.api.ChronographObjectLabelRenderer;
+import org.eclipse.chronograph.internal.swt.renderers.api.Surface;
 import org.eclipse.swt.SWT;
-import org.eclipse.swt.graphics.FontMetrics;
-import org.eclipse.swt.graphics.GC;
-import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.graphics.Rectangle;
 
 /**
@@ -32,32 +33,68 @@ import org.eclipse.swt.graphics.Rectangle;
  */
 public class ObjectLabelRendererImpl<D> implements ChronographObjectLabelRenderer<D> {
 
+	private final UnitConverter converter;
+	private final SimpleDateFormat format;
+	private final Date date = new Date();
+	private final UnitLabels labels = new UnitLabels(4096);
+
+	public ObjectLabelRendererImpl() {
+		this(UnitConverter.DEFAULT);
+	}
+
+	public ObjectLabelRendererImpl(UnitConverter converter) {
+		this.converter = converter;
+		this.format = new SimpleDateFormat(pattern(converter));
+	}
+
+	private static String pattern(UnitConverter converter) {
+		switch (converter.unit()) {
+		case MILLISECONDS:
+			return "HH:mm:ss.SSS"; //$NON-NLS-1$
+		case SECONDS:
+			return "HH:mm:ss"; //$NON-NLS-1$
+		case MINUTES:
+		case HOURS:
+			return "yyyy-MM-dd HH:mm"; //$NON-NLS-1$
+		default:
+			return "yyyy-MM-dd"; //$NON-NLS-1$
+		}
+	}
+
+	private String format(long units) {
+		String label = labels.get(units);
+		if (label == null) {
+			date.setTime(converter.toEpochMillis(units));
+			label = format.format(date);
+			labels.put(units, label);
+		}
+		return label;
+	}
+
 	@Override
-	public void drawLabel(String label, Position brickPosition, GC gc, Rectangle objectBounds, int vOffset, int scale,
-			int zoom) {
-		FontMetrics fontMetrics = gc.getFontMetrics();
-		int height = fontMetrics.getHeight();
-		gc.setForeground(StageStyler.STAGE_TEXT_COLOR);
-		gc.setLineStyle(SWT.LINE_SOLID);
+	public void drawLabel(String label, Position brickPosition, Surface surface, Rectangle objectBounds, int vOffset,
+			double scale, int zoom) {
+		int height = surface.getFontHeight();
+		surface.setForeground(StageStyler.STAGE_TEXT_COLOR);
+		surface.setLineStyle(SWT.LINE_SOLID);
 		int mediana = objectBounds.height / 2 - height / 2;
 
-		String msg = String.valueOf(UnitConverter.unitsToLocalDate((int) brickPosition.start()));
-		gc.drawString(msg, objectBounds.x + BrickStyler.getHeight(), objectBounds.y + mediana, true);
+		String msg = format(brickPosition.start());
+		surface.drawString(msg, objectBounds.x + height * 2, objectBounds.y + mediana, true);
 		if (zoom > 1) {
-			gc.drawString(label, objectBounds.x + height / 2, objectBounds.y - height, true);
+			surface.drawString(label, objectBounds.x + height / 2, objectBounds.y - height, true);
 		}
 		if (scale > 1) {
-			msg = String.valueOf(UnitConverter.unitsToLocalDate((int) brickPosition.end()));
-			Point msgExtent = gc.textExtent(msg);
-			gc.drawString(msg, objectBounds.x + objectBounds.width - (msgExtent.x + msgExtent.y),
+			msg = format(brickPosition.end());
+			surface.drawString(msg, objectBounds.x + objectBounds.width - (surface.stringWidth(msg) + height),
 					objectBounds.y + mediana, true);
 		}
-		gc.setLineStyle(SWT.LINE_SOLID);
-		gc.setForeground(StageStyler.STAGE_TOP_COLOR);
-		gc.drawLine(objectBounds.x, 0, objectBounds.x, 20);
-		gc.setForeground(BrickStyler.getColorBorder());
-		gc.drawLine(objectBounds.x + objectBounds.width, objectBounds.y + objectBounds.height,
+		surface.setLineStyle(SWT.LINE_SOLID);
+		surface.setForeground(StageStyler.STAGE_TOP_COLOR);
+		surface.drawLine(objectBounds.x, 0, objectBounds.x, 20);
+		surface.setForeground(BrickStyler.getColorBorder());
+		surface.drawLine(objectBounds.x + objectBounds.width, objectBounds.y + objectBounds.height,
 				objectBounds.x + objectBounds.width, objectBounds.y + objectBounds.height);
-		gc.setLineStyle(SWT.LINE_SOLID);
+		surface.setLineStyle(SWT.LINE_SOLID);
 	}
 }
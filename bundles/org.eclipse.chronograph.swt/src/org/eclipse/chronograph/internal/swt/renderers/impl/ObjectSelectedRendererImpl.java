@@ -16,7 +16,7 @@ package org.eclipse.chronograph.internal.swt.renderers.impl;
 import org.eclipse.chronograph.internal.api.graphics.Brick;
 import org.eclipse.chronograph.internal.swt.BrickStyler;
 import org.eclipse.chronograph.internal.swt.renderers.api.ChronographObjectContentRenderer;
-import org.eclipse.swt.graphics.GC;
+import org.eclipse.chronograph.internal.swt.renderers.api.Surface;
 import org.eclipse.swt.graphics.Rectangle;
 
 /**
@@ -27,11 +27,11 @@ import org.eclipse.swt.graphics.Rectangle;
 public class ObjectSelectedRendererImpl<D> implements ChronographObjectContentRenderer<D> {
 
 	@Override
-	public void draw(Brick<D> object, GC gc, Rectangle bounds, int vOffset) {
-		gc.setForeground(BrickStyler.getColorTopSelected());
-		gc.setBackground(BrickStyler.getColorBottomSelected());
-		gc.fillRoundRectangle(bounds.x, bounds.y, bounds.width, bounds.height, 30, 30);
-		gc.setBackground(BrickStyler.getColorTopSelected());
-		gc.fillOval(bounds.x - bounds.height / 10, bounds.y, bounds.height, bounds.height);
+	public void draw(Brick<D> object, Surface surface, Rectangle bounds, int vOffset) {
+		surface.setForeground(BrickStyler.getColorTopSelected());
+		surface.setBackground(BrickStyler.getColorBottomSelected());
+		surface.fillRoundRectangle(bounds.x, bounds.y, bounds.width, bounds.height, 30, 30);
+		surface.setBackground(BrickStyler.getColorTopSelected());
+		surface.fillOval(bounds.x - bounds.height / 10, bounds.y, bounds.height, bounds.height);
 	}
 }
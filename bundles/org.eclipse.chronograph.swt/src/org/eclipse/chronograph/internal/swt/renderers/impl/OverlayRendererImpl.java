@@ -0,0 +1,112 @@
+/*******************************************************************************
+ *	Copyright (c) 2020 ArSysOp
+ *
+ *	This program and the accompanying materials are made available under the
+ *	terms of the Eclipse Public License 2.0 which is available at
+ *	http://www.eclipse.org/legal/epl-2.0.
+ *
+ *	SPDX-License-Identifier: EPL-2.0
+ *
+ *	Contributors:
+ *	Sergei Kovalchuk <sergei.kovalchuk@arsysop.ru> - 
+ *												initial API and implementation
+ *******************************************************************************/
+package org.eclipse.chronograph.internal.swt.renderers.impl;
+
+import java.util.Locale;
+
+import org.eclipse.chronograph.internal.api.metrics.Gauge;
+import org.eclipse.chronograph.internal.api.metrics.Metrics;
+import org.eclipse.chronograph.internal.base.flight.Flight.Phase;
+import org.eclipse.chronograph.internal.swt.StageStyler;
+import org.eclipse.chronograph.internal.swt.renderers.api.ChronographOverlayRenderer;
+import org.eclipse.chronograph.internal.swt.renderers.api.Surface;
+import org.eclipse.swt.graphics.Rectangle;
+
+/**
+ * 
+ * Render implementation for the performance overlay: the frames per second,
+ * the time of the frame split by phase, the brick counts and the cache hit
+ * ratio in the top right corner of the stage. The overlay is painted for
+ * diagnostics only, so it formats its lines on every frame
+ *
+ */
+public class OverlayRendererImpl implements ChronographOverlayRenderer {
+
+	private static final int MARGIN = 10;
+	private static final int PADDING = 5;
+	private static final long SECOND = 1_000_000_000L;
+	/**
+	 * The stamps of the recent frames, so up to its length frames per second are
+	 * counted
+	 */
+	private final long[] stamps = new long[128];
+	private int next;
+	private int stamped;
+
+	@Override
+	public void draw(Surface surface, Rectangle bounds, long[] phases, Metrics metrics) {
+		String[] lines = lines(phases, metrics);
+		int lineHeight = surface.getFontHeight();
+		int width = 0;
+		for (String line : lines) {
+			width = Math.max(width, surface.stringWidth(line));
+		}
+		int boxWidth = width + PADDING * 2;
+		int boxHeight = lineHeight * lines.length + PADDING * 2;
+		int x = bounds.x + bounds.width - boxWidth - MARGIN;
+		int y = bounds.y + StageStyler.getStageHeaderHeight() + MARGIN;
+		surface.setBackground(StageStyler.STAGE_BG_COLOR);
+		surface.fillRectangle(x, y, boxWidth, boxHeight);
+		surface.setForeground(StageStyler.STAGE_TOP_COLOR);
+		surface.drawRectangle(x, y, boxWidth, boxHeight);
+		surface.setForeground(StageStyler.STAGE_TEXT_COLOR);
+		for (int i = 0; i < lines.length; i++) {
+			surface.drawString(lines[i], x + PADDING, y + PADDING + i * lineHeight, true);
+		}
+	}
+
+	private String[] lines(long[] phases, Metrics metrics) {
+		long total = 0;
+		for (long phase : phases) {
+			total += phase;
+		}
+		return new String[] { //
+				String.format(Locale.ROOT, "FPS %d  frame %.2f ms", fps(), millis(total)), //$NON-NLS-1$
+				String.format(Locale.ROOT, "stage %.2f  lines %.2f  rulers %.2f", //$NON-NLS-1$
+						millis(phases[Phase.STAGE.ordinal()]), millis(phases[Phase.LINES.ordinal()]),
+						millis(phases[Phase.RULERS.ordinal()])),
+				String.format(Locale.ROOT, "bricks %.2f  labels %.2f", //$NON-NLS-1$
+						millis(phases[Phase.BRICKS.ordinal()]), millis(phases[Phase.LABELS.ordinal()])),
+				String.format(Locale.ROOT, "groups %.2f  status %.2f", //$NON-NLS-1$
+						millis(phases[Phase.GROUPS.ordinal()]), millis(phases[Phase.STATUS.ordinal()])),
+				String.format(Locale.ROOT, "visible %d of %d bricks", //$NON-NLS-1$
+						metrics.gauge(Gauge.BRICKS_VISIBLE), metrics.gauge(Gauge.BRICKS_LOADED)),
+				String.format(Locale.ROOT, "cache hits %.1f%%  resident %.1f MB", //$NON-NLS-1$
+						metrics.cacheHitRate() * 100, metrics.gauge(Gauge.RESIDENT_BYTES) / 1048576.0) };
+	}
+
+	/**
+	 * Stamps the frame being painted
+	 * 
+	 * @return the amount of frames painted within the last second
+	 */
+	private int fps() {
+		long now = System.nanoTime();
+		stamps[next] = now;
+		next = (next + 1) % stamps.length;
+		stamped = Math.min(stamped + 1, stamps.length);
+		int count = 0;
+		for (int i = 0; i < stamped; i++) {
+			if (now - stamps[i] < SECOND) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	private static double millis(long nanos) {
+		return nanos / 1e6;
+	}
+
+}
@@ -0,0 +1,256 @@
+/*******************************************************************************
+ *	Copyright (c) 2020 ArSysOp
+ *
+ *	This program and the accompanying materials are made available under the
+ *	terms of the Eclipse Public License 2.0 which is available at
+ *	http://www.eclipse.org/legal/epl-2.0.
+ *
+ *	SPDX-License-Identifier: EPL-2.0
+ *
+ *	Contributors:
+ *	Sergei Kovalchuk <sergei.kovalchuk@arsysop.ru> - 
+ *												initial API and implementation
+ *******************************************************************************/
+package org.eclipse.chronograph.internal.swt.renderers.impl;
+
+import org.eclipse.chronograph.internal.swt.renderers.api.Surface;
+import org.eclipse.swt.graphics.Color;
+
+/**
+ * 
+ * {@link Surface} that draws nothing but counts the calls and the effective
+ * state changes, so the cost of a frame can be measured without a display. The
+ * text is measured with the fixed character width and font height
+ *
+ */
+public final class RecordingSurface implements Surface {
+
+	/**
+	 * The kinds of the surface calls
+	 */
+	public enum Call {
+		FOREGROUND(Kind.STATE), BACKGROUND(Kind.STATE), ANTIALIAS(Kind.STATE), LINE_STYLE(Kind.STATE),
+		TRANSFORM(Kind.STATE), RESET_TRANSFORM(Kind.STATE), //
+		LINE(Kind.DRAW), RECTANGLE(Kind.DRAW), FILL_RECTANGLE(Kind.DRAW), GRADIENT_RECTANGLE(Kind.DRAW),
+		ROUND_RECTANGLE(Kind.DRAW), FILL_ROUND_RECTANGLE(Kind.DRAW), FILL_OVAL(Kind.DRAW), STRING(Kind.DRAW),
+		TEXT(Kind.DRAW), //
+		EXTENT(Kind.MEASURE), CHAR_WIDTH(Kind.MEASURE), FONT_HEIGHT(Kind.MEASURE);
+
+		private final Kind kind;
+
+		Call(Kind kind) {
+			this.kind = kind;
+		}
+
+		public Kind kind() {
+			return kind;
+		}
+	}
+
+	public enum Kind {
+		STATE, DRAW, MEASURE
+	}
+
+	public static final int CHAR_WIDTH_DEFAULT = 7;
+	public static final int FONT_HEIGHT_DEFAULT = 15;
+
+	private final int charWidth;
+	private final int fontHeight;
+	private final long[] calls = new long[Call.values().length];
+	private long changes;
+	private Color foreground;
+	private Color background;
+	private int antialias;
+	private int lineStyle;
+	private boolean transformed;
+
+	public RecordingSurface() {
+		this(CHAR_WIDTH_DEFAULT, FONT_HEIGHT_DEFAULT);
+	}
+
+	/**
+	 * 
+	 * @param charWidth  the width of every character
+	 * @param fontHeight the height of the font
+	 */
+	public RecordingSurface(int charWidth, int fontHeight) {
+		this.charWidth = charWidth;
+		this.fontHeight = fontHeight;
+		reset();
+	}
+
+	/**
+	 * Forgets the counted calls and restores the initial state
+	 */
+	public void reset() {
+		for (int i = 0; i < calls.length; i++) {
+			calls[i] = 0;
+		}
+		changes = 0;
+		foreground = null;
+		background = null;
+		antialias = Integer.MIN_VALUE;
+		lineStyle = Integer.MIN_VALUE;
+		transformed = false;
+	}
+
+	/**
+	 * 
+	 * @param call the kind of call
+	 * @return the amount of the given calls
+	 */
+	public long count(Call call) {
+		return calls[call.ordinal()];
+	}
+
+	/**
+	 * 
+	 * @param kind the kind of calls
+	 * @return the amount of the calls of the given kind
+	 */
+	public long count(Kind kind) {
+		long count = 0;
+		for (Call call : Call.values()) {
+			if (call.kind == kind) {
+				count += calls[call.ordinal()];
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * 
+	 * @return the amount of the drawing calls
+	 */
+	public long draws() {
+		return count(Kind.DRAW);
+	}
+
+	/**
+	 * 
+	 * @return the amount of the state calls that actually changed the state
+	 */
+	public long changes() {
+		return changes;
+	}
+
+	private void call(Call call) {
+		calls[call.ordinal()]++;
+	}
+
+	@Override
+	public void setForeground(Color color) {
+		call(Call.FOREGROUND);
+		if (foreground != color) {
+			foreground = color;
+			changes++;
+		}
+	}
+
+	@Override
+	public void setBackground(Color color) {
+		call(Call.BACKGROUND);
+		if (background != color) {
+			background = color;
+			changes++;
+		}
+	}
+
+	@Override
+	public void setAntialias(int antialias) {
+		call(Call.ANTIALIAS);
+		if (this.antialias != antialias) {
+			this.antialias = antialias;
+			changes++;
+		}
+	}
+
+	@Override
+	public void setLineStyle(int style) {
+		call(Call.LINE_STYLE);
+		if (lineStyle != style) {
+			lineStyle = style;
+			changes++;
+		}
+	}
+
+	@Override
+	public void transform(float dx, float dy, float angle) {
+		call(Call.TRANSFORM);
+		transformed = true;
+		changes++;
+	}
+
+	@Override
+	public void resetTransform() {
+		call(Call.RESET_TRANSFORM);
+		if (transformed) {
+			transformed = false;
+			changes++;
+		}
+	}
+
+	@Override
+	public void drawLine(int x1, int y1, int x2, int y2) {
+		call(Call.LINE);
+	}
+
+	@Override
+	public void drawRectangle(int x, int y, int width, int height) {
+		call(Call.RECTANGLE);
+	}
+
+	@Override
+	public void fillRectangle(int x, int y, int width, int height) {
+		call(Call.FILL_RECTANGLE);
+	}
+
+	@Override
+	public void fillGradientRectangle(int x, int y, int width, int height, boolean vertical) {
+		call(Call.GRADIENT_RECTANGLE);
+	}
+
+	@Override
+	public void drawRoundRectangle(int x, int y, int width, int height, int arcWidth, int arcHeight) {
+		call(Call.ROUND_RECTANGLE);
+	}
+
+	@Override
+	public void fillRoundRectangle(int x, int y, int width, int height, int arcWidth, int arcHeight) {
+		call(Call.FILL_ROUND_RECTANGLE);
+	}
+
+	@Override
+	public void fillOval(int x, int y, int width, int height) {
+		call(Call.FILL_OVAL);
+	}
+
+	@Override
+	public void drawString(String string, int x, int y, boolean transparent) {
+		call(Call.STRING);
+	}
+
+	@Override
+	public void drawText(String string, int x, int y, boolean transparent) {
+		call(Call.TEXT);
+	}
+
+	@Override
+	public int stringWidth(String string) {
+		call(Call.EXTENT);
+		return string.length() * charWidth;
+	}
+
+	@Override
+	public int getCharWidth(char ch) {
+		call(Call.CHAR_WIDTH);
+		return charWidth;
+	}
+
+	@Override
+	public int getFontHeight() {
+		call(Call.FONT_HEIGHT);
+		return fontHeight;
+	}
+
+}
@@ -14,52 +14,27 @@
 package org.eclipse.chronograph.internal.swt.renderers.impl;
 
 import java.text.SimpleDateFormat;
-import java.util.Calendar;
-import java.util.TimeZone;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
 
+import org.eclipse.chronograph.internal.base.UnitConverter;
 import org.eclipse.chronograph.internal.swt.RulerStyler;
-import org.eclipse.chronograph.internal.swt.renderers.api.ChronographStageRulerRenderer;
-import org.eclipse.swt.SWT;
-import org.eclipse.swt.graphics.GC;
-import org.eclipse.swt.graphics.Rectangle;
 
 /**
  * 
  * Render implementation for day ruler
  *
  */
-public class RulerDayRendererImpl implements ChronographStageRulerRenderer {
+public class RulerDayRendererImpl extends AbstractRulerRenderer {
 
 	private final SimpleDateFormat sdf = new SimpleDateFormat("dd"); //$NON-NLS-1$
-	private final Calendar calendar = Calendar.getInstance(TimeZone.getDefault());
 
-	@Override
-	public void draw(GC gc, Rectangle bounds, int scale, int width, int tiksOffset, int xAxis) {
-		int xMaxPosition = bounds.width + bounds.x;
-		int yBottomPosition = bounds.y + bounds.height - RulerStyler.RULER_DAY_HEIGHT - RulerStyler.RULER_MOUNTH_HEIGHT
-				- RulerStyler.RULER_YEAR_HEIGHT;
-		int xPosition = 0;
-		gc.setAntialias(SWT.ON);
-		calendar.clear();
-		calendar.set(Calendar.YEAR, 2019);
-		calendar.set(Calendar.MONTH, 0);
-		calendar.set(Calendar.DAY_OF_MONTH, 01);
-		calendar.add(Calendar.DATE, tiksOffset);
+	public RulerDayRendererImpl(UnitConverter converter) {
+		super(converter, ChronoUnit.DAYS, RulerStyler.RULER_DAY_HEIGHT);
+	}
 
-		while (true) {
-			gc.setForeground(RulerStyler.RULER_TOP_COLOR);
-			gc.setBackground(RulerStyler.RULER_BTM_COLOR);
-			gc.fillGradientRectangle(xPosition, yBottomPosition, width, RulerStyler.RULER_DAY_HEIGHT, true);
-			gc.setForeground(RulerStyler.RULER_TEXT_COLOR);
-			String msg = sdf.format(calendar.getTime());
-			if (xPosition >= bounds.x && width > 10) {
-				gc.drawString(msg, xPosition + 4, yBottomPosition + 3, true);
-			}
-			xPosition += width;
-			if (xPosition > xMaxPosition) {
-				break;
-			}
-			calendar.add(Calendar.DAY_OF_MONTH, 1);
-		}
+	@Override
+	protected String label(Date date, int width) {
+		return sdf.format(date);
 	}
 }
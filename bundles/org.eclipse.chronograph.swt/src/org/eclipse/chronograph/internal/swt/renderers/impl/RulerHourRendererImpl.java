@@ -0,0 +1,40 @@
+/*******************************************************************************
+ *	Copyright (c) 2020 ArSysOp
+ *
+ *	This program and the accompanying materials are made available under the
+ *	terms of the Eclipse Public License 2.0 which is available at
+ *	http://www.eclipse.org/legal/epl-2.0.
+ *
+ *	SPDX-License-Identifier: EPL-2.0
+ *
+ *	Contributors:
+ *	Sergei Kovalchuk <sergei.kovalchuk@arsysop.ru> - 
+ *												initial API and implementation
+ *******************************************************************************/
+package org.eclipse.chronograph.internal.swt.renderers.impl;
+
+import java.text.SimpleDateFormat;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+
+import org.eclipse.chronograph.internal.base.UnitConverter;
+import org.eclipse.chronograph.internal.swt.RulerStyler;
+
+/**
+ * 
+ * Render implementation for hour ruler
+ *
+ */
+public class RulerHourRendererImpl extends AbstractRulerRenderer {
+
+	private final SimpleDateFormat sdf = new SimpleDateFormat("HH"); //$NON-NLS-1$
+
+	public RulerHourRendererImpl(UnitConverter converter) {
+		super(converter, ChronoUnit.HOURS, RulerStyler.RULER_HOUR_HEIGHT);
+	}
+
+	@Override
+	protected String label(Date date, int width) {
+		return sdf.format(date);
+	}
+}
@@ -14,60 +14,36 @@
 package org.eclipse.chronograph.internal.swt.renderers.impl;
 
 import java.text.SimpleDateFormat;
-import java.util.Calendar;
-import java.util.TimeZone;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
 
+import org.eclipse.chronograph.internal.base.UnitConverter;
 import org.eclipse.chronograph.internal.swt.RulerStyler;
-import org.eclipse.chronograph.internal.swt.renderers.api.ChronographStageRulerRenderer;
-import org.eclipse.swt.graphics.GC;
-import org.eclipse.swt.graphics.Rectangle;
 
 /**
  * 
  * Render implementation for month ruler
  *
  */
-public class RulerMonthRendererImpl implements ChronographStageRulerRenderer {
+public class RulerMonthRendererImpl extends AbstractRulerRenderer {
+
+	/**
+	 * The narrowest month to show its name instead of its number, in pixels
+	 */
+	private static final int MONTH_NAME_WIDTH = 60;
 
 	private final SimpleDateFormat sdf = new SimpleDateFormat("MMMM"); //$NON-NLS-1$
 	private final SimpleDateFormat sdfNum = new SimpleDateFormat("MM"); //$NON-NLS-1$
-	private final Calendar calendar = Calendar.getInstance(TimeZone.getDefault());
-
-	@Override
-	public void draw(GC gc, Rectangle bounds, int scale, int width, int tiksOffset, int xAxis) {
-		int xMaxPosition = bounds.width + bounds.x;
-		int yBottomPosition = bounds.y + bounds.height - RulerStyler.RULER_MOUNTH_HEIGHT
-				- RulerStyler.RULER_YEAR_HEIGHT;
-		int xPosition = 0;
-		calendar.clear();
-		calendar.set(Calendar.YEAR, 2019);
-		calendar.set(Calendar.MONTH, 0);
-		calendar.set(Calendar.DAY_OF_MONTH, 01);
-		calendar.add(Calendar.DATE, tiksOffset);
-
-		gc.setForeground(RulerStyler.RULER_TOP_COLOR);
-		gc.setBackground(RulerStyler.RULER_BTM_COLOR);
-		gc.fillGradientRectangle(xPosition, yBottomPosition, bounds.width, RulerStyler.RULER_MOUNTH_HEIGHT, true);
-		while (true) {
 
-			if (calendar.get(Calendar.DAY_OF_MONTH) == 1) {
-				gc.setForeground(RulerStyler.RULER_BTM_COLOR);
-				// grid line
-				String msg = sdf.format(calendar.getTime());
-				if (width < 2) {
-					msg = sdfNum.format(calendar.getTime());
-				}
-				gc.setForeground(RulerStyler.RULER_TEXT_COLOR);
-				gc.drawString(msg, xPosition + 4, yBottomPosition + 3, true);
+	public RulerMonthRendererImpl(UnitConverter converter) {
+		super(converter, ChronoUnit.MONTHS, RulerStyler.RULER_MOUNTH_HEIGHT);
+	}
 
-			}
-			xPosition += width;
-			if (xPosition > xMaxPosition) {
-				break;
-			}
-			calendar.add(Calendar.DAY_OF_MONTH, 1);
+	@Override
+	protected String label(Date date, int width) {
+		if (width < MONTH_NAME_WIDTH) {
+			return sdfNum.format(date);
 		}
-
+		return sdf.format(date);
 	}
-
 }
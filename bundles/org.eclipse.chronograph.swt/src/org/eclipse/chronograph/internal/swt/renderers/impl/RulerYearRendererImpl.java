@@ -14,49 +14,27 @@
 package org.eclipse.chronograph.internal.swt.renderers.impl;
 
 import java.text.SimpleDateFormat;
-import java.util.Calendar;
-import java.util.TimeZone;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
 
+import org.eclipse.chronograph.internal.base.UnitConverter;
 import org.eclipse.chronograph.internal.swt.RulerStyler;
-import org.eclipse.chronograph.internal.swt.renderers.api.ChronographStageRulerRenderer;
-import org.eclipse.swt.graphics.GC;
-import org.eclipse.swt.graphics.Rectangle;
 
 /**
  * 
  * Render implementation for year ruler
  *
  */
-public class RulerYearRendererImpl implements ChronographStageRulerRenderer {
+public class RulerYearRendererImpl extends AbstractRulerRenderer {
 
-	private SimpleDateFormat sdf = new SimpleDateFormat("yyyy"); //$NON-NLS-1$
-	private Calendar calendar = Calendar.getInstance(TimeZone.getDefault());
+	private final SimpleDateFormat sdf = new SimpleDateFormat("yyyy"); //$NON-NLS-1$
 
-	@Override
-	public void draw(GC gc, Rectangle bounds, int scale, int width, int tiksOffset, int xAxis) {
-		int xMaxPosition = bounds.width + bounds.x;
-		int yBottomPosition = bounds.y + bounds.height - RulerStyler.RULER_YEAR_HEIGHT;
-		int xPosition = 0;
-		calendar.clear();
-		calendar.set(Calendar.YEAR, 2019);
-		calendar.set(Calendar.MONTH, 0);
-		calendar.set(Calendar.DAY_OF_MONTH, 01);
-		calendar.add(Calendar.DATE, tiksOffset);
+	public RulerYearRendererImpl(UnitConverter converter) {
+		super(converter, ChronoUnit.YEARS, RulerStyler.RULER_YEAR_HEIGHT);
+	}
 
-		gc.setForeground(RulerStyler.RULER_TOP_COLOR);
-		gc.setBackground(RulerStyler.RULER_BTM_COLOR);
-		gc.fillGradientRectangle(xPosition, yBottomPosition, bounds.width, RulerStyler.RULER_YEAR_HEIGHT, true);
-		while (true) {
-			if (calendar.get(Calendar.DAY_OF_MONTH) == 1) {
-				gc.setForeground(RulerStyler.RULER_TEXT_COLOR);
-				String msg = sdf.format(calendar.getTime());
-				gc.drawString(msg, xPosition + 4, yBottomPosition + 3, true);
-			}
-			xPosition += width;
-			if (xPosition > xMaxPosition) {
-				break;
-			}
-			calendar.add(Calendar.DAY_OF_MONTH, 1);
-		}
+	@Override
+	protected String label(Date date, int width) {
+		return sdf.format(date);
 	}
 }
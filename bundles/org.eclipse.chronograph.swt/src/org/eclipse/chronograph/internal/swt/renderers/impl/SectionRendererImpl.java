@@ -16,12 +16,9 @@ package org.eclipse.chronograph.internal.swt.renderers.impl;
 import org.eclipse.chronograph.internal.api.graphics.Group;
 import org.eclipse.chronograph.internal.swt.SectionStyler;
 import org.eclipse.chronograph.internal.swt.renderers.api.ChronographSectionRenderer;
+import org.eclipse.chronograph.internal.swt.renderers.api.Surface;
 import org.eclipse.swt.SWT;
-import org.eclipse.swt.graphics.GC;
-import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.graphics.Rectangle;
-import org.eclipse.swt.graphics.Transform;
-import org.eclipse.swt.widgets.Display;
 
 /**
  * 
@@ -33,40 +30,25 @@ public class SectionRendererImpl implements ChronographSectionRenderer {
 	private final Labels labels = new Labels();
 
 	@Override
-	public void draw(GC gc, String label, Rectangle bounds, Display display, int width, int hintY) {
-		gc.setAntialias(SWT.ON);
-		int fontHeight = gc.getFontMetrics().getHeight();
-		final Rectangle sectionRectangle = new Rectangle(bounds.x, bounds.y, width, bounds.height);
-		gc.setForeground(SectionStyler.SECTION_BTM_COLOR);
-		gc.setBackground(SectionStyler.SECTION_TOP_COLOR);
-		gc.fillRoundRectangle(0, sectionRectangle.y - hintY, width, sectionRectangle.height, width, width);
-		gc.drawRoundRectangle(0, sectionRectangle.y - hintY, width, sectionRectangle.height, width, width);
-
-		gc.setForeground(SectionStyler.SECTION_TOP_COLOR);
-		Transform tr = new Transform(display);
-		tr.translate(0, -hintY);
-		tr.rotate(-90);
-		gc.setTransform(tr);
-		gc.setForeground(SectionStyler.SECTION_TEXT_COLOR);
-
-		Point stringExtent = gc.stringExtent(label);
-		String msg = calculateLabel(gc, label, sectionRectangle, stringExtent);
-		stringExtent = gc.stringExtent(msg);
-		int x = -sectionRectangle.height - sectionRectangle.y;
-		gc.drawString(msg, x + (sectionRectangle.height - stringExtent.x) / 2, fontHeight / 2, true);
-		gc.setBackground(SectionStyler.SECTION_BTM_COLOR);
-
-		tr.dispose();
-		gc.setTransform(null);
-	}
-
-	private String calculateLabel(GC gc, String label, Rectangle rectangle, Point extent) {
-		int limit = rectangle.height;
-		if (extent.x > limit) {
-			return labels.fit(label, limit, gc);
-		} else {
-			return label;
-		}
+	public void draw(Surface surface, String label, Rectangle bounds, int width, int hintY) {
+		surface.setAntialias(SWT.ON);
+		int fontHeight = surface.getFontHeight();
+		int height = bounds.height;
+		surface.setForeground(SectionStyler.SECTION_BTM_COLOR);
+		surface.setBackground(SectionStyler.SECTION_TOP_COLOR);
+		surface.fillRoundRectangle(0, bounds.y - hintY, width, height, width, width);
+		surface.drawRoundRectangle(0, bounds.y - hintY, width, height, width, width);
+
+		surface.setForeground(SectionStyler.SECTION_TOP_COLOR);
+		surface.transform(0, -hintY, -90);
+		surface.setForeground(SectionStyler.SECTION_TEXT_COLOR);
+
+		String msg = labels.fit(label, height, surface);
+		int extent = labels.width(label, height, surface);
+		int x = -height - bounds.y;
+		surface.drawString(msg, x + (height - extent) / 2, fontHeight / 2, true);
+		surface.setBackground(SectionStyler.SECTION_BTM_COLOR);
+		surface.resetTransform();
 	}
 
 }
@@ -13,63 +13,64 @@
  *******************************************************************************/
 package org.eclipse.chronograph.internal.swt.renderers.impl;
 
-import java.util.Calendar;
-import java.util.TimeZone;
+import java.time.temporal.ChronoUnit;
 
+import org.eclipse.chronograph.internal.base.UnitConverter;
 import org.eclipse.chronograph.internal.swt.RulerStyler;
 import org.eclipse.chronograph.internal.swt.renderers.api.ChronographStageLinesRenderer;
+import org.eclipse.chronograph.internal.swt.renderers.api.Surface;
 import org.eclipse.swt.SWT;
-import org.eclipse.swt.graphics.GC;
 import org.eclipse.swt.graphics.Rectangle;
 
 /**
  * 
- * Render implementation for stage lines
+ * Render implementation for stage lines: the grid follows the ticks of the
+ * finest tier shown by the rulers if they are wide enough, otherwise the ticks
+ * of the next coarser tier
  *
  */
 public class StageLinesRendererImpl implements ChronographStageLinesRenderer {
 
-	private final Calendar calendar = Calendar.getInstance(TimeZone.getDefault());
-	private final Calendar currentDate = Calendar.getInstance(TimeZone.getDefault());
+	/**
+	 * The narrowest tick of the finest tier to draw the grid for, in pixels
+	 */
+	private static final int GRID_PIXELS_MIN = 5;
 
-	@Override
-	public void draw(GC gc, Rectangle bounds, int scale, int width, int tiksOffset, int xAxis) {
-		int xMaxPosition = bounds.width + bounds.x;
-		int yBottomPosition = bounds.y + bounds.height - RulerStyler.RULER_DAY_HEIGHT - RulerStyler.RULER_MOUNTH_HEIGHT
-				- RulerStyler.RULER_YEAR_HEIGHT;
-		int xPosition = 0;
-		gc.setAntialias(SWT.ON);
-		calendar.clear();
-		calendar.set(Calendar.YEAR, 2019);
-		calendar.set(Calendar.MONTH, 0);
-		calendar.set(Calendar.DAY_OF_MONTH, 01);
-		calendar.add(Calendar.DATE, tiksOffset);
+	private final UnitConverter converter;
+	private final Ticks ticks;
 
-		while (true) {
-			if (currentDate.get(Calendar.YEAR) == calendar.get(Calendar.YEAR)
-					&& currentDate.get(Calendar.DAY_OF_YEAR) == calendar.get(Calendar.DAY_OF_YEAR)) {
-				gc.setForeground(RulerStyler.RULER_CUREENT_DAY_COLOR_BTM);
-				gc.setBackground(RulerStyler.RULER_CUREENT_DAY_COLOR_TOP);
-				gc.fillGradientRectangle(xPosition, bounds.y, width, bounds.height, false);
-			}
-			gc.setForeground(RulerStyler.RULER_TOP_COLOR);
-			gc.setBackground(RulerStyler.RULER_BTM_COLOR);
-			gc.drawLine(xPosition, yBottomPosition + RulerStyler.RULER_DAY_HEIGHT, xPosition, yBottomPosition);
+	public StageLinesRendererImpl(UnitConverter converter) {
+		this.converter = converter;
+		this.ticks = new Ticks(converter);
+	}
 
-			if (calendar.get(Calendar.DAY_OF_MONTH) == 1) {
-				gc.setForeground(RulerStyler.RULER_BTM_COLOR);
-				// grid line
-				gc.drawLine(xPosition, bounds.y, xPosition, yBottomPosition);
-			}
-			if (scale > 4) {
-				gc.setForeground(RulerStyler.RULER_BTM_COLOR);
-				gc.drawLine(xPosition, bounds.y, xPosition, yBottomPosition);
-			}
-			xPosition += width;
-			if (xPosition > xMaxPosition) {
-				break;
-			}
-			calendar.add(Calendar.DAY_OF_MONTH, 1);
+	@Override
+	public void draw(Surface surface, Rectangle bounds, double pixels, long offset) {
+		int xMaxPosition = bounds.width + bounds.x;
+		int yBottomPosition = bounds.y + bounds.height - RulerStyler.getRulersHeight();
+		surface.setAntialias(SWT.ON);
+		long now = converter.toUnits(System.currentTimeMillis());
+		long xNow = Math.round((now - offset) * pixels);
+		if (xNow <= xMaxPosition && xNow + pixels >= bounds.x) {
+			surface.setForeground(RulerStyler.RULER_CUREENT_DAY_COLOR_BTM);
+			surface.setBackground(RulerStyler.RULER_CUREENT_DAY_COLOR_TOP);
+			surface.fillGradientRectangle((int) xNow, bounds.y, (int) Math.max(1, Math.round(pixels)),
+					bounds.height, false);
+		}
+		int finest = ticks.finest(pixels);
+		ChronoUnit tier = ticks.tier(finest);
+		if (ticks.width(tier, pixels) < GRID_PIXELS_MIN) {
+			tier = ticks.tier(finest + 1);
+		}
+		surface.setForeground(RulerStyler.RULER_BTM_COLOR);
+		ticks.start(tier, offset, pixels);
+		int xPosition = ticks.x();
+		while (xPosition <= xMaxPosition) {
+			// grid line
+			surface.drawLine(xPosition, bounds.y, xPosition, yBottomPosition);
+			ticks.next();
+			xPosition = ticks.x();
 		}
 	}
+
 }
@@ -15,7 +15,7 @@ package org.eclipse.chronograph.internal.swt.renderers.impl;
 
 import org.eclipse.chronograph.internal.swt.StageStyler;
 import org.eclipse.chronograph.internal.swt.renderers.api.ChronographStageRenderer;
-import org.eclipse.swt.graphics.GC;
+import org.eclipse.chronograph.internal.swt.renderers.api.Surface;
 import org.eclipse.swt.graphics.Rectangle;
 
 /**
@@ -26,11 +26,11 @@ import org.eclipse.swt.graphics.Rectangle;
 public class StageRendererImpl implements ChronographStageRenderer {
 
 	@Override
-	public void draw(GC gc, Rectangle bounds) {
-		gc.setForeground(StageStyler.STAGE_TOP_COLOR);
-		gc.setBackground(StageStyler.STAGE_BG_COLOR);
-		gc.fillRectangle(bounds);
-		gc.drawRectangle(bounds);
+	public void draw(Surface surface, Rectangle bounds) {
+		surface.setForeground(StageStyler.STAGE_TOP_COLOR);
+		surface.setBackground(StageStyler.STAGE_BG_COLOR);
+		surface.fillRectangle(bounds.x, bounds.y, bounds.width, bounds.height);
+		surface.drawRectangle(bounds.x, bounds.y, bounds.width, bounds.height);
 	}
 
 }
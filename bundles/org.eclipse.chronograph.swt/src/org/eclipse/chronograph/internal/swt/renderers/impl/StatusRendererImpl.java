@@ -15,8 +15,7 @@ package org.eclipse.chronograph.internal.swt.renderers.impl;
 
 import org.eclipse.chronograph.internal.swt.StatusStyler;
 import org.eclipse.chronograph.internal.swt.renderers.api.ChronographStatusRenderer;
-import org.eclipse.swt.graphics.GC;
-import org.eclipse.swt.graphics.Point;
+import org.eclipse.chronograph.internal.swt.renderers.api.Surface;
 import org.eclipse.swt.graphics.Rectangle;
 
 /**
@@ -26,19 +25,29 @@ import org.eclipse.swt.graphics.Rectangle;
  */
 public class StatusRendererImpl implements ChronographStatusRenderer {
 
+	private final UnitLabels expiredLabels = new UnitLabels(1);
+	private final UnitLabels actualLabels = new UnitLabels(1);
+
 	@Override
-	public void draw(GC gc, Rectangle bounds, int actual, int expired, int hintY) {
+	public void draw(Surface surface, Rectangle bounds, int actual, int expired, int hintY) {
 
-		gc.setForeground(StatusStyler.LICENSE_EXPIRED_COLOR);
-		String msg = "Expired: " + expired; //$NON-NLS-1$
-		Point pointExpired = gc.stringExtent(msg);
-		int x = bounds.x + bounds.width - pointExpired.x - 5;
-		gc.drawText(msg, x, bounds.y + pointExpired.y / 2 - hintY, true);
+		surface.setForeground(StatusStyler.LICENSE_EXPIRED_COLOR);
+		String msg = expiredLabels.get(expired);
+		if (msg == null) {
+			msg = "Expired: " + expired; //$NON-NLS-1$
+			expiredLabels.put(expired, msg);
+		}
+		int y = bounds.y + surface.getFontHeight() / 2 - hintY;
+		int x = bounds.x + bounds.width - surface.stringWidth(msg) - 5;
+		surface.drawText(msg, x, y, true);
 
-		gc.setForeground(StatusStyler.LICENSE_ACTUAL_COLOR);
-		msg = "Actual: " + actual; //$NON-NLS-1$
-		Point pointActual = gc.stringExtent(msg);
-		gc.drawText(msg, x - pointActual.x - 10, bounds.y + pointActual.y / 2 - hintY, true);
+		surface.setForeground(StatusStyler.LICENSE_ACTUAL_COLOR);
+		msg = actualLabels.get(actual);
+		if (msg == null) {
+			msg = "Actual: " + actual; //$NON-NLS-1$
+			actualLabels.put(actual, msg);
+		}
+		surface.drawText(msg, x - surface.stringWidth(msg) - 10, y, true);
 	}
 
 }
@@ -0,0 +1,172 @@
+/*******************************************************************************
+ *	Copyright (c) 2020 ArSysOp
+ *
+ *	This program and the accompanying materials are made available under the
+ *	terms of the Eclipse Public License 2.0 which is available at
+ *	http://www.eclipse.org/legal/epl-2.0.
+ *
+ *	SPDX-License-Identifier: EPL-2.0
+ *
+ *	Contributors:
+ *	Sergei Kovalchuk <sergei.kovalchuk@arsysop.ru> - 
+ *												initial API and implementation
+ *******************************************************************************/
+package org.eclipse.chronograph.internal.swt.renderers.impl;
+
+import java.time.temporal.ChronoUnit;
+import java.util.Calendar;
+
+import org.eclipse.chronograph.internal.base.UnitConverter;
+
+/**
+ * 
+ * Iterates the ticks of the time tiers over the visible units. The tiers shown
+ * depend on the amount of pixels per unit: the finest one is the finest tier
+ * whose tick is wide enough to be seen, and the coarser tiers are shown below
+ * it up to the amount of the ruler rows. So the ticks change from minutes to
+ * years as the stage is zoomed out, whatever the unit of the time base is
+ *
+ */
+final class Ticks {
+
+	/**
+	 * The amount of the tiers shown at once
+	 */
+	static final int ROWS = 3;
+	/**
+	 * The narrowest tick that is still shown, in pixels
+	 */
+	private static final int TICK_PIXELS_MIN = 2;
+	private static final ChronoUnit[] TIERS = { ChronoUnit.MINUTES, ChronoUnit.HOURS, ChronoUnit.DAYS,
+			ChronoUnit.MONTHS, ChronoUnit.YEARS };
+	private static final int[] FIELDS = { Calendar.MINUTE, Calendar.HOUR_OF_DAY, Calendar.DAY_OF_MONTH,
+			Calendar.MONTH, Calendar.YEAR };
+
+	private final UnitConverter converter;
+	private final Calendar calendar;
+	private final double unitMillis;
+	private int field;
+	private long offset;
+	private double pixels;
+
+	Ticks(UnitConverter converter) {
+		this.converter = converter;
+		this.calendar = Calendar.getInstance(converter.zone());
+		this.unitMillis = converter.unit().toMillis(1);
+	}
+
+	/**
+	 * 
+	 * @param pixels the amount of pixels per unit
+	 * @return the index of the finest tier shown
+	 */
+	int finest(double pixels) {
+		for (int i = 0; i < TIERS.length - 1; i++) {
+			if (width(TIERS[i], pixels) >= TICK_PIXELS_MIN) {
+				return i;
+			}
+		}
+		return TIERS.length - 1;
+	}
+
+	/**
+	 * 
+	 * @param tier   the time tier
+	 * @param pixels the amount of pixels per unit
+	 * @return the row of the tier counted from the bottom, <code>-1</code> if the
+	 *         tier is not shown
+	 */
+	int row(ChronoUnit tier, double pixels) {
+		int finest = finest(pixels);
+		int coarsest = Math.min(finest + ROWS - 1, TIERS.length - 1);
+		int index = index(tier);
+		if (index < finest || index > coarsest) {
+			return -1;
+		}
+		return coarsest - index;
+	}
+
+	/**
+	 * 
+	 * @param tier   the time tier
+	 * @param pixels the amount of pixels per unit
+	 * @return the nominal width of the tick of the tier in pixels
+	 */
+	double width(ChronoUnit tier, double pixels) {
+		return pixels * tier.getDuration().toMillis() / unitMillis;
+	}
+
+	/**
+	 * 
+	 * @param index the index of the tier, from the finest to the coarsest
+	 * @return the time tier
+	 */
+	ChronoUnit tier(int index) {
+		return TIERS[Math.min(index, TIERS.length - 1)];
+	}
+
+	/**
+	 * Moves to the tick of the given tier containing the given unit
+	 * 
+	 * @param tier   the time tier
+	 * @param units  the first visible unit
+	 * @param pixels the amount of pixels per unit
+	 */
+	void start(ChronoUnit tier, long units, double pixels) {
+		int index = index(tier);
+		this.field = FIELDS[index];
+		this.offset = units;
+		this.pixels = pixels;
+		calendar.setTimeInMillis(converter.toEpochMillis(units));
+		switch (tier) {
+		case YEARS:
+			calendar.set(Calendar.MONTH, Calendar.JANUARY);
+			// $FALL-THROUGH$
+		case MONTHS:
+			calendar.set(Calendar.DAY_OF_MONTH, 1);
+			// $FALL-THROUGH$
+		case DAYS:
+			calendar.set(Calendar.HOUR_OF_DAY, 0);
+			// $FALL-THROUGH$
+		case HOURS:
+			calendar.set(Calendar.MINUTE, 0);
+			// $FALL-THROUGH$
+		default:
+			calendar.set(Calendar.SECOND, 0);
+			calendar.set(Calendar.MILLISECOND, 0);
+		}
+	}
+
+	/**
+	 * Moves to the next tick
+	 */
+	void next() {
+		calendar.add(field, 1);
+	}
+
+	/**
+	 * 
+	 * @return the start of the current tick in epoch milliseconds
+	 */
+	long millis() {
+		return calendar.getTimeInMillis();
+	}
+
+	/**
+	 * 
+	 * @return the horizontal position of the current tick
+	 */
+	int x() {
+		double x = (converter.toFractionalUnits(calendar.getTimeInMillis()) - offset) * pixels;
+		return (int) Math.max(Integer.MIN_VALUE / 2, Math.min(Integer.MAX_VALUE / 2, Math.round(x)));
+	}
+
+	private static int index(ChronoUnit tier) {
+		for (int i = 0; i < TIERS.length; i++) {
+			if (TIERS[i] == tier) {
+				return i;
+			}
+		}
+		throw new IllegalArgumentException(tier.name());
+	}
+}
@@ -0,0 +1,65 @@
+/*******************************************************************************
+ *	Copyright (c) 2020 ArSysOp
+ *
+ *	This program and the accompanying materials are made available under the
+ *	terms of the Eclipse Public License 2.0 which is available at
+ *	http://www.eclipse.org/legal/epl-2.0.
+ *
+ *	SPDX-License-Identifier: EPL-2.0
+ *
+ *	Contributors:
+ *	Sergei Kovalchuk <sergei.kovalchuk@arsysop.ru> - 
+ *												initial API and implementation
+ *******************************************************************************/
+package org.eclipse.chronograph.internal.swt.renderers.impl;
+
+import java.util.Arrays;
+
+/**
+ * 
+ * Direct-mapped cache of the labels formatted for the units, so the labels of
+ * the static scene are not formatted again on every paint
+ *
+ */
+final class UnitLabels {
+
+	private final long[] units;
+	private final String[] labels;
+	private final int mask;
+
+	/**
+	 * 
+	 * @param size the amount of the cached labels, the power of two
+	 */
+	UnitLabels(int size) {
+		this.units = new long[size];
+		this.labels = new String[size];
+		this.mask = size - 1;
+	}
+
+	/**
+	 * 
+	 * @param unit the unit
+	 * @return the cached label or <code>null</code>
+	 */
+	String get(long unit) {
+		int index = index(unit);
+		return units[index] == unit ? labels[index] : null;
+	}
+
+	void put(long unit, String label) {
+		int index = index(unit);
+		units[index] = unit;
+		labels[index] = label;
+	}
+
+	void clear() {
+		Arrays.fill(labels, null);
+	}
+
+	private int index(long unit) {
+		// the ticks are whole minutes in milliseconds, so the low bits are spread
+		long hash = unit ^ (unit >>> 17) ^ (unit >>> 32);
+		return (int) hash & mask;
+	}
+}
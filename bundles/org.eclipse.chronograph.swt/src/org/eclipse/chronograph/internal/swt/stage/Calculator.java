@@ -24,6 +24,9 @@ import org.eclipse.chronograph.internal.api.graphics.Brick;
 import org.eclipse.chronograph.internal.api.graphics.Group;
 import org.eclipse.chronograph.internal.base.AreaImpl;
 import org.eclipse.chronograph.internal.base.PlainData;
+import org.eclipse.chronograph.internal.base.Snapshot;
+import org.eclipse.chronograph.internal.base.SnapshotDiff;
+import org.eclipse.chronograph.internal.base.flight.Flight;
 import org.eclipse.chronograph.internal.swt.BrickStyler;
 import org.eclipse.chronograph.internal.swt.GroupStyler;
 import org.eclipse.chronograph.internal.swt.RulerStyler;
@@ -32,41 +35,73 @@ import org.eclipse.chronograph.internal.swt.StageStyler;
 import org.eclipse.swt.graphics.Rectangle;
 
 public class Calculator<D> {
+	/**
+	 * Bricks are clipped to the visible width extended by this margin, so the
+	 * rounded borders of partially visible bricks are kept outside of the screen
+	 */
+	static final int SCREEN_MARGIN = 100;
 	private final PlainData<D> registry;
 	private final Map<String, Area> groupsAreas;
 	private final Map<String, Area> bricksAreas;
-	private final Map<Area, Brick<D>> areaBricks;
+	private final Map<String, Brick<D>> visibleBricks;
+	private final int headerHeight;
+	private final int rulersHeight;
+	private final int separatorHeight;
+	private final int brickHeight;
+	private int visibleWidth;
 
 	public Calculator(PlainData<D> registry) {
+		this(registry, StageStyler.getStageHeaderHeight(), RulerStyler.getRulersHeight(),
+				SectionStyler.getSectionSeparatorHeight(), BrickStyler.getHeight());
+	}
+
+	/**
+	 * Creates the calculator with the given metrics, so the layout does not
+	 * require the display to measure the font
+	 * 
+	 * @param registry        the data to lay out
+	 * @param headerHeight    the height of the stage header
+	 * @param rulersHeight    the total height of the rulers
+	 * @param separatorHeight the space between the sections
+	 * @param brickHeight     the height of the brick
+	 */
+	public Calculator(PlainData<D> registry, int headerHeight, int rulersHeight, int separatorHeight,
+			int brickHeight) {
 		this.registry = registry;
+		this.headerHeight = headerHeight;
+		this.rulersHeight = rulersHeight;
+		this.separatorHeight = separatorHeight;
+		this.brickHeight = brickHeight;
 		this.groupsAreas = new HashMap<>();
 		this.bricksAreas = new HashMap<>();
-		this.areaBricks = new HashMap<>();
+		this.visibleBricks = new HashMap<>();
 	}
 
 	public void calculateObjectBounds(Rectangle clientArea, int zoom) {
+		visibleWidth = clientArea.width;
 		Area visiableArea = new AreaImpl(clientArea.x, clientArea.y, clientArea.width, clientArea.height);
-		Area frameArea = new AreaImpl(visiableArea.x(), visiableArea.y() + StageStyler.getStageHeaderHeight(), // -
-																												// pYhint,
-				visiableArea.width() - 10,
-				visiableArea.height() - StageStyler.getStageHeaderHeight() - RulerStyler.RULER_DAY_HEIGHT
-						- RulerStyler.RULER_MOUNTH_HEIGHT - RulerStyler.RULER_YEAR_HEIGHT);
-		List<Group> sections = registry.groups();
-		calculateSectionBounds(frameArea, sections, SectionStyler.getSectionSeparatorHeight(), zoom);
+		Area frameArea = new AreaImpl(visiableArea.x(), visiableArea.y() + headerHeight, // -
+																								// pYhint,
+				visiableArea.width() - 10, visiableArea.height() - headerHeight - rulersHeight);
+		Flight.Layout flight = Flight.recorder().layout();
+		Snapshot<D> data = registry.snapshot();
+		List<Group> sections = data.groups();
+		calculateSectionBounds(data, frameArea, sections, separatorHeight, zoom);
 		for (Group section : sections) {
-			List<Group> groupsBySection = registry.subGroups(section);
-			calculateGroupBounds(groupsBySection, getGroupAreaByGroup(section));
+			List<Group> groupsBySection = data.subGroups(section);
+			calculateGroupBounds(data, groupsBySection, getGroupAreaByGroup(section));
 		}
-
+		flight.record(sections.size(), clientArea.width, clientArea.height, zoom);
 	}
 
-	private void calculateSectionBounds(Area area, Collection<Group> sections, int sectionSpace, int zoom) {
+	private void calculateSectionBounds(Snapshot<D> data, Area area, Collection<Group> sections, int sectionSpace,
+			int zoom) {
 		int y = area.y();
 		for (Group section : sections) {
 			int lenghtOfGroups = 0;
-			List<Group> groups = registry.subGroups(section);
+			List<Group> groups = data.subGroups(section);
 			for (Group group : groups) {
-				List<Group> subGroups = registry.getSubGroupByGroupSection(group);
+				List<Group> subGroups = data.getSubGroupByGroupSection(group);
 				if (subGroups.isEmpty()) {
 
 					lenghtOfGroups += GroupStyler.GROUP_HEIGHT_DEFAULT;
@@ -80,7 +115,7 @@ public class Calculator<D> {
 		}
 	}
 
-	private void calculateGroupBounds(List<Group> groups, Area area) {
+	private void calculateGroupBounds(Snapshot<D> data, List<Group> groups, Area area) {
 		if (area == null) {
 			return;
 		}
@@ -90,7 +125,7 @@ public class Calculator<D> {
 			Area areaGroup = new AreaImpl(area.x() + 30, area.y() + (groupIndex * heightDelta), area.width() + 30,
 					heightDelta);
 			addDrawingArea(group, areaGroup);
-			List<Group> subGroups = registry.getSubGroupByGroupSection(group);
+			List<Group> subGroups = data.getSubGroupByGroupSection(group);
 			for (Group subgroup : subGroups) {
 				int subGroupIndex = subGroups.indexOf(subgroup);
 				Area areaSubGroup = new AreaImpl(areaGroup.x() + 30,
@@ -101,16 +136,39 @@ public class Calculator<D> {
 		}
 	}
 
-	public Brick<D> calculateObjectPosition(Brick<D> brick, Area area, int hintX, int hintY, int hintWidth) {
+	/**
+	 * Calculates the brick bounds in 64-bit world coordinates and converts them to
+	 * the screen space only if the brick intersects the visible width, otherwise
+	 * the brick area is forgotten
+	 * 
+	 * @param brick     the brick to position
+	 * @param area      the area of the subgroup owning the brick
+	 * @param hintX     the horizontal offset in units
+	 * @param hintY     the vertical offset in pixels
+	 * @param hintWidth the amount of pixels per unit, may be fractional
+	 * @return the given brick
+	 */
+	public Brick<D> calculateObjectPosition(Brick<D> brick, Area area, long hintX, int hintY, double hintWidth) {
 		if (area == null) {
 			return brick;
 		}
-		int pixelWitdh = (int) brick.position().duration() * hintWidth;
-		int pointX = (int) brick.position().start() * hintWidth - (hintX * hintWidth);
-		int pointY = area.y() + (area.height() - BrickStyler.getHeight()) / 2 - hintY;
-		Area brickArea = new AreaImpl(pointX, pointY, pixelWitdh, BrickStyler.getHeight());
-		bricksAreas.put(brick.id(), brickArea);
-		areaBricks.put(area, brick);
+		long worldX = Math.round((brick.position().start() - hintX) * hintWidth);
+		// a brick is kept visible however far the stage is zoomed out
+		long worldWidth = Math.max(1, Math.round(brick.position().duration() * hintWidth));
+		if (worldX + worldWidth < -SCREEN_MARGIN || worldX > visibleWidth + SCREEN_MARGIN) {
+			bricksAreas.remove(brick.id());
+			visibleBricks.remove(brick.id());
+			return brick;
+		}
+		int pointX = (int) Math.max(worldX, -SCREEN_MARGIN);
+		int pixelWitdh = (int) (Math.min(worldX + worldWidth, visibleWidth + SCREEN_MARGIN) - pointX);
+		int pointY = area.y() + (area.height() - brickHeight) / 2 - hintY;
+		Area brickArea = bricksAreas.get(brick.id());
+		if (brickArea == null || brickArea.x() != pointX || brickArea.y() != pointY
+				|| brickArea.width() != pixelWitdh || brickArea.height() != brickHeight) {
+			bricksAreas.put(brick.id(), new AreaImpl(pointX, pointY, pixelWitdh, brickHeight));
+		}
+		visibleBricks.put(brick.id(), brick);
 		return brick;
 	}
 
@@ -123,14 +181,52 @@ public class Calculator<D> {
 	}
 
 	public Area getGroupAreaByGroup(Group group) {
-		return groupsAreas.get(group.fqid());
+		return getGroupAreaByFqid(group.fqid());
+	}
+
+	public Area getGroupAreaByFqid(String fqid) {
+		return groupsAreas.get(fqid);
+	}
+
+	/**
+	 * Takes over the layout of the groups of the previous calculator if the group
+	 * tree was not changed. The bricks are positioned by the next frame, as it
+	 * positions all of them for the current viewport anyway.
+	 * 
+	 * @param previous the calculator for the previous version
+	 * @param diff     the difference between the versions
+	 * @return <code>true</code> if the layout was taken over
+	 */
+	public boolean adopt(Calculator<D> previous, SnapshotDiff diff) {
+		if (diff.treeChanged()) {
+			return false;
+		}
+		groupsAreas.putAll(previous.groupsAreas);
+		visibleWidth = previous.visibleWidth;
+		return true;
+	}
+
+	/**
+	 * Forgets the positions of the given bricks
+	 * 
+	 * @param ids the identifiers of the bricks
+	 */
+	public void forget(Collection<String> ids) {
+		for (String id : ids) {
+			bricksAreas.remove(id);
+			visibleBricks.remove(id);
+		}
 	}
 
 	public Optional<Brick<D>> brickAt(int x, int y) {
-		return areaBricks.keySet().stream()//
-				.filter(a -> x >= a.x() && y >= a.y() && x <= a.x() + a.width() && y <= a.y() + a.height())//
+		return bricksAreas.entrySet().stream()//
+				.filter(e -> contains(e.getValue(), x, y))//
 				.findFirst()//
-				.map(areaBricks::get);
+				.map(e -> visibleBricks.get(e.getKey()));
+	}
+
+	private boolean contains(Area a, int x, int y) {
+		return x >= a.x() && y >= a.y() && x <= a.x() + a.width() && y <= a.y() + a.height();
 	}
 
 	public int getGroupsAreaHeight() {
@@ -0,0 +1,280 @@
+/*******************************************************************************
+ *	Copyright (c) 2020 ArSysOp
+ *
+ *	This program and the accompanying materials are made available under the
+ *	terms of the Eclipse Public License 2.0 which is available at
+ *	http://www.eclipse.org/legal/epl-2.0.
+ *
+ *	SPDX-License-Identifier: EPL-2.0
+ *
+ *	Contributors:
+ *	Sergei Kovalchuk <sergei.kovalchuk@arsysop.ru> - 
+ *												initial API and implementation
+ *******************************************************************************/
+package org.eclipse.chronograph.internal.swt.stage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.chronograph.internal.api.graphics.Area;
+import org.eclipse.chronograph.internal.api.graphics.Brick;
+import org.eclipse.chronograph.internal.api.graphics.Group;
+import org.eclipse.chronograph.internal.api.metrics.Metrics;
+import org.eclipse.chronograph.internal.api.representation.Decoration;
+import org.eclipse.chronograph.internal.base.Snapshot;
+import org.eclipse.chronograph.internal.base.flight.Flight;
+import org.eclipse.chronograph.internal.base.flight.Flight.Phase;
+import org.eclipse.chronograph.internal.swt.SectionStyler;
+import org.eclipse.chronograph.internal.swt.renderers.api.ChronographStageRulerRenderer;
+import org.eclipse.chronograph.internal.swt.renderers.api.Surface;
+import org.eclipse.chronograph.internal.swt.renderers.impl.ChronographManagerRenderers;
+import org.eclipse.swt.graphics.Rectangle;
+
+/**
+ * 
+ * Paints the whole frame of the stage onto the {@link Surface}: the
+ * background, the grid, the bricks of every row, the groups, the sections, the
+ * status line and the rulers. The painter does not depend on the widget, so
+ * the frame may be painted without a display
+ *
+ * @param <D> the type of data object
+ */
+public final class ScenePainter<D> {
+
+	private final ChronographManagerRenderers<D> renderers;
+	private final Decoration<D, ?> labelProvider;
+	/**
+	 * Reused for every painted area, the renderers must not retain it
+	 */
+	private final Rectangle rectangle = new Rectangle(0, 0, 0, 0);
+	private final List<Brick<D>> marked = new ArrayList<>();
+	private final long[] phases = new long[Phase.values().length];
+	private boolean profiled;
+	private boolean timed;
+	private long tick;
+	private int visible;
+	private int culled;
+	private double pxlHint;
+	private long pxHint;
+	private int pyHint;
+	private int zoom;
+
+	public ScenePainter(ChronographManagerRenderers<D> renderers, Decoration<D, ?> labelProvider) {
+		this.renderers = renderers;
+		this.labelProvider = labelProvider;
+	}
+
+	/**
+	 * Sets the viewport for the following frames
+	 * 
+	 * @param pxlHint the amount of pixels per unit, may be fractional
+	 * @param pxHint  the horizontal offset in units
+	 * @param pyHint  the vertical offset in pixels
+	 * @param zoom    the vertical zoom
+	 */
+	public void viewport(double pxlHint, long pxHint, int pyHint, int zoom) {
+		this.pxlHint = pxlHint;
+		this.pxHint = pxHint;
+		this.pyHint = pyHint;
+		this.zoom = zoom;
+	}
+
+	/**
+	 * Measures the phases of every frame, not only the recorded ones
+	 * 
+	 * @param profiled <code>true</code> to measure the phases of every frame
+	 */
+	public void profile(boolean profiled) {
+		this.profiled = profiled;
+	}
+
+	/**
+	 * Paints the performance overlay for the last frame, its phases are measured
+	 * if the painter is profiled
+	 * 
+	 * @param surface    the surface to paint on
+	 * @param clientArea the visible area
+	 * @param metrics    the metrics of the stage
+	 */
+	public void paintOverlay(Surface surface, Rectangle clientArea, Metrics metrics) {
+		renderers.getOverlayPainter().draw(surface, clientArea, phases, metrics);
+	}
+
+	/**
+	 * 
+	 * @return the amount of bricks painted by the last frame
+	 */
+	public int visible() {
+		return visible;
+	}
+
+	/**
+	 * 
+	 * @return the amount of bricks skipped by the last frame as they are outside
+	 *         of the visible area
+	 */
+	public int culled() {
+		return culled;
+	}
+
+	/**
+	 * Paints the frame for the given version of data, the bricks are positioned
+	 * by the given calculator on the way
+	 * 
+	 * @param surface    the surface to paint on
+	 * @param clientArea the visible area
+	 * @param data       the version of data
+	 * @param calculator the layout of the given data
+	 * @param selected   the selected bricks
+	 * @param actual     the amount of actual bricks for the status line
+	 * @param expired    the amount of expired bricks for the status line
+	 */
+	public void paint(Surface surface, Rectangle clientArea, Snapshot<D> data, Calculator<D> calculator,
+			Collection<Brick<D>> selected, int actual, int expired) {
+		Flight.Frame flight = Flight.recorder().frame();
+		timed = profiled || flight != Flight.Frame.NONE;
+		Arrays.fill(phases, 0);
+		visible = 0;
+		culled = 0;
+		tick = timed ? System.nanoTime() : 0;
+		renderers.getDrawingStagePainter().draw(surface, clientArea);
+		spent(Phase.STAGE);
+		renderers.getStageLinesPainter().draw(surface, clientArea, pxlHint, pxHint);
+		spent(Phase.LINES);
+		List<Group> sections = data.groups();
+		for (int i = 0; i < sections.size(); i++) {
+			Group section = sections.get(i);
+			List<Group> groupsBySection = data.subGroups(section);
+			for (int j = 0; j < groupsBySection.size(); j++) {
+				Group group = groupsBySection.get(j);
+				List<Group> subGroups = data.getSubGroupByGroupSection(group);
+				for (int k = 0; k < subGroups.size(); k++) {
+					Group subgroup = subGroups.get(k);
+					Area area = calculator.getGroupAreaByGroup(subgroup);
+					if (area == null) {
+						continue;
+					}
+					List<Brick<D>> bricks = data.bricks(subgroup);
+					if (!bricks.isEmpty()) {
+						Collection<Brick<D>> markedBricks = filterBricksBySeleted(bricks, selected);
+						spent(Phase.BRICKS);
+						drawSceneObjects(surface, calculator, area, bricks);
+						if (!markedBricks.isEmpty()) {
+							drawSelectedObjects(surface, calculator, area, markedBricks);
+						}
+					}
+					drawGroup(surface, subgroup, area);
+				}
+				Area area = calculator.getGroupAreaByGroup(group);
+				if (area == null) {
+					continue;
+				}
+				drawGroup(surface, group, area);
+			}
+			Area area = calculator.getGroupAreaByGroup(section);
+			if (area == null) {
+				continue;
+			}
+			renderers.getDrawingSectionPainter().draw(surface, labelProvider.groupText(section), rectangle(area),
+					SectionStyler.getSectionWidth(), pyHint);
+			spent(Phase.GROUPS);
+		}
+		renderers.getDrawingStatusPainter().draw(surface, clientArea, actual, expired, pyHint);
+		spent(Phase.STATUS);
+		List<ChronographStageRulerRenderer> rulers = renderers.getDrawingRulersPainter();
+		for (int i = 0; i < rulers.size(); i++) {
+			rulers.get(i).draw(surface, clientArea, pxlHint, pxHint);
+		}
+		spent(Phase.RULERS);
+		flight.record(visible, culled, pxlHint, zoom, phases);
+	}
+
+	/**
+	 * Adds the time since the previous phase to the given one, if the frame is
+	 * measured
+	 */
+	private void spent(Phase phase) {
+		if (timed) {
+			long now = System.nanoTime();
+			phases[phase.ordinal()] += now - tick;
+			tick = now;
+		}
+	}
+
+	private void drawGroup(Surface surface, Group group, Area area) {
+		renderers.getDrawingGroupPainter().draw(surface, labelProvider.groupText(group), rectangle(area),
+				SectionStyler.getSectionWidth(), pyHint);
+		spent(Phase.GROUPS);
+	}
+
+	private Rectangle rectangle(Area area) {
+		rectangle.x = area.x();
+		rectangle.y = area.y();
+		rectangle.width = area.width();
+		rectangle.height = area.height();
+		return rectangle;
+	}
+
+	private Collection<Brick<D>> filterBricksBySeleted(List<Brick<D>> bricks, Collection<Brick<D>> selectedBriks) {
+		if (selectedBriks.isEmpty()) {
+			return Collections.emptyList();
+		}
+		marked.clear();
+		for (Brick<D> selectedBrick : selectedBriks) {
+			for (int i = 0; i < bricks.size(); i++) {
+				Brick<D> brick = bricks.get(i);
+				if (brick.id().equals(selectedBrick.id())
+						&& brick.position().start() == selectedBrick.position().start()) {
+					marked.add(brick);
+				}
+			}
+		}
+		return marked;
+	}
+
+	private void drawSceneObjects(Surface surface, Calculator<D> calculator, Area area, List<Brick<D>> bricks) {
+		for (int i = 0; i < bricks.size(); i++) {
+			Brick<D> brick = bricks.get(i);
+			calculator.calculateObjectPosition(brick, area, pxHint, pyHint, pxlHint);
+			Area brickArea = calculator.getBrickAreaById(brick.id());
+			if (brickArea == null) {
+				culled++;
+				continue;
+			}
+			visible++;
+			Rectangle rectangleArea = rectangle(brickArea);
+			renderers.getContentPainter().draw(brick, surface, rectangleArea, pyHint);
+			spent(Phase.BRICKS);
+			String label = labelProvider.brickText(brick);
+			renderers.getLabelPainter().drawLabel(label, brick.position(), surface, rectangleArea, pyHint, pxlHint,
+					zoom);
+			spent(Phase.LABELS);
+			renderers.getDurationPainter().drawObjectDuration(brick, surface, pyHint);
+		}
+		spent(Phase.BRICKS);
+	}
+
+	private void drawSelectedObjects(Surface surface, Calculator<D> calculator, Area area,
+			Collection<Brick<D>> bricks) {
+		for (Brick<D> brick : bricks) {
+			calculator.calculateObjectPosition(brick, area, pxHint, pyHint, pxlHint);
+			Area brickArea = calculator.getBrickAreaById(brick.id());
+			if (brickArea == null) {
+				continue;
+			}
+			Rectangle rectangleArea = rectangle(brickArea);
+			renderers.getSelectedContentPainter().draw(brick, surface, rectangleArea, pyHint);
+			spent(Phase.BRICKS);
+			String label = labelProvider.brickText(brick);
+			renderers.getLabelPainter().drawLabel(label, brick.position(), surface, rectangleArea, pyHint, pxlHint,
+					zoom);
+			spent(Phase.LABELS);
+			renderers.getDurationPainter().drawObjectDuration(brick, surface, pyHint);
+		}
+		spent(Phase.BRICKS);
+	}
+
+}
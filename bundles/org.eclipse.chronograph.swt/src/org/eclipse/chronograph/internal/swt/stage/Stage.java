@@ -13,86 +13,150 @@
  *******************************************************************************/
 package org.eclipse.chronograph.internal.swt.stage;
 
-import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.chronograph.internal.api.data.Resolution;
 import org.eclipse.chronograph.internal.api.graphics.Area;
 import org.eclipse.chronograph.internal.api.graphics.Brick;
-import org.eclipse.chronograph.internal.api.graphics.Group;
 import org.eclipse.chronograph.internal.api.graphics.Position;
+import org.eclipse.chronograph.internal.api.metrics.Metrics;
+import org.eclipse.chronograph.internal.api.metrics.Timer;
 import org.eclipse.chronograph.internal.api.representation.Decoration;
+import org.eclipse.chronograph.internal.base.LiveFeed;
+import org.eclipse.chronograph.internal.base.ModelEvent;
+import org.eclipse.chronograph.internal.base.ObservableData;
 import org.eclipse.chronograph.internal.base.PlainData;
+import org.eclipse.chronograph.internal.base.Snapshot;
+import org.eclipse.chronograph.internal.base.SnapshotDiff;
 import org.eclipse.chronograph.internal.base.UnitConverter;
-import org.eclipse.chronograph.internal.base.query.ActualBricks;
-import org.eclipse.chronograph.internal.base.query.ExpiredBricks;
-import org.eclipse.chronograph.internal.swt.AreaRectangle;
-import org.eclipse.chronograph.internal.swt.SectionStyler;
-import org.eclipse.chronograph.internal.swt.renderers.api.ChronographStageLinesRenderer;
-import org.eclipse.chronograph.internal.swt.renderers.api.ChronographStageRulerRenderer;
+import org.eclipse.chronograph.internal.base.data.QueryImpl;
+import org.eclipse.chronograph.internal.base.data.WindowCache;
+import org.eclipse.chronograph.internal.base.metrics.MetricsImpl;
 import org.eclipse.chronograph.internal.swt.renderers.impl.ChronographManagerRenderers;
+import org.eclipse.chronograph.internal.swt.renderers.impl.GCSurface;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.events.PaintEvent;
-import org.eclipse.swt.graphics.GC;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.graphics.Rectangle;
 import org.eclipse.swt.layout.FillLayout;
 import org.eclipse.swt.widgets.Canvas;
 import org.eclipse.swt.widgets.Composite;
-import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Event;
 import org.eclipse.swt.widgets.Listener;
 import org.eclipse.swt.widgets.ScrollBar;
 
 public final class Stage<D> extends Canvas {
 
-	private final Resolution<D> access;
-	private final AreaRectangle areaRectangle;
-	private final ActualBricks<D> actualBricks;
-	private final ExpiredBricks<D> expiredBricks;
+	private final WindowCache<D> access;
+	private final StagePrefetch<D> prefetch;
+	private final UnitConverter converter;
 
 	private static final int VERTICAL_SCROLLBAR_PAGE_INC = 50;
-	private static final int SCALE_DEF = 3;
+	/**
+	 * The horizontal scroll bar works in this bounded range, the world range of
+	 * units is mapped onto it
+	 */
+	private static final int HORIZONTAL_SCROLLBAR_RANGE = 1_000_000;
+	/**
+	 * The default amount of pixels per unit
+	 */
+	private static final double SCALE_DEF = 3;
+	/**
+	 * The amount of pixels per unit is multiplied or divided by this factor on
+	 * every zoom step
+	 */
+	private static final double SCALE_FACTOR = 2;
+	/**
+	 * The stage is zoomed out until a year takes this amount of pixels
+	 */
+	private static final double YEAR_PIXELS_MIN = 64;
+	/**
+	 * The stage is zoomed in until a minute, or a unit if it is longer, takes
+	 * this amount of pixels
+	 */
+	private static final double MINUTE_PIXELS_MAX = 64;
 	private static final int ZOOM_DEF = 2;
-	private int pX;
+	private static final int RESET_BACKLOG_DAYS = 150;
+	/**
+	 * The size of the time window segment kept by the cache, in units
+	 */
+	private static final long WINDOW_SEGMENT_UNITS = 128;
+	/**
+	 * The estimated amount of memory the loaded segments may retain, in bytes
+	 */
+	private static final long WINDOW_CACHE_BUDGET = 64L << 20;
+	/**
+	 * The right edge within this fraction of the visible units past the current
+	 * moment is considered at the live edge
+	 */
+	private static final int LIVE_EDGE_FRACTION = 10;
+	/**
+	 * The horizontal offset in pixels
+	 */
+	private long pX;
 	private int pY;
-	private int pXMax;
-	private int pxlHint = 5;
-	private int pxHint;
+	/**
+	 * The amount of pixels per unit, fractional if the stage is zoomed out below
+	 * a pixel per unit
+	 */
+	private double pxlHint;
+	private long pxHint;
 	private int pyHint;
-	private int pMaxHorizontal;
+	private long pMaxHorizontal;
 	private int pMaxVertical;
+	private Position window;
+	private LiveFeed<D> feed;
+	/**
+	 * The stage follows the current moment of the live feed while its right edge
+	 * is kept at it
+	 */
+	private boolean pinned;
 
 	private List<Brick<D>> bricksSelected;
 
-	private PlainData<D> registry;
+	private volatile PlainData<D> registry;
+	private ObservableData<D> model;
 	private Rectangle boundsGlobal;
 
 	private ScrollBar scrollBarVertical;
 	private ScrollBar scrollBarHorizontal;
-	private Decoration<D, Image> labelProvider;
-	private Calculator<D> calculator;
+	private volatile Calculator<D> calculator;
 
 	private int zoom;
-	private int scale;
 
-	private final ChronographManagerRenderers<D> renderers = new ChronographManagerRenderers<>();
+	private final ScenePainter<D> painter;
+	private final MetricsImpl metrics = new MetricsImpl();
+	private final StageFrame<D> frame;
+	private final GCSurface surface = new GCSurface();
+	private boolean overlay;
 
 	public Stage(Composite parent, Resolution<D> access, Decoration<D, Image> provider) {
-		this(parent, SWT.NO_BACKGROUND | SWT.DOUBLE_BUFFERED | SWT.V_SCROLL | SWT.H_SCROLL, access, provider);
+		this(parent, access, provider, UnitConverter.DEFAULT);
+	}
+
+	public Stage(Composite parent, Resolution<D> access, Decoration<D, Image> provider, UnitConverter converter) {
+		this(parent, SWT.NO_BACKGROUND | SWT.DOUBLE_BUFFERED | SWT.V_SCROLL | SWT.H_SCROLL, access, provider,
+				converter);
 	}
 
 	public Stage(Composite parent, int style, Resolution<D> access, Decoration<D, Image> provider) {
-		super(parent, style);
-		this.access = access;
-		this.areaRectangle = new AreaRectangle();
-		this.actualBricks = new ActualBricks<>();
-		this.expiredBricks = new ExpiredBricks<>();
+		this(parent, style, access, provider, UnitConverter.DEFAULT);
+	}
 
-		this.labelProvider = provider;
+	public Stage(Composite parent, int style, Resolution<D> access, Decoration<D, Image> provider,
+			UnitConverter converter) {
+		super(parent, style);
+		this.access = new WindowCache<>(access, WINDOW_SEGMENT_UNITS, WINDOW_CACHE_BUDGET);
+		this.prefetch = new StagePrefetch<>(this.access);
+		this.converter = converter;
+		this.painter = new ScenePainter<>(new ChronographManagerRenderers<>(converter), provider);
+		this.frame = new StageFrame<>(painter, this.access, metrics);
 		bricksSelected = new ArrayList<>();
 		setLayout(new FillLayout());
 		initScale();
@@ -106,12 +170,64 @@ public final class Stage<D> extends Canvas {
 	}
 
 	private void initScale() {
-		scale = SCALE_DEF;
+		pxlHint = SCALE_DEF;
 		zoom = ZOOM_DEF;
 	}
 
 	private void initRegistry() {
 		registry = new PlainData<>(access);
+		model = new ObservableData<>(registry, access);
+		model.addListener(this::changed);
+	}
+
+	/**
+	 * The model of the loaded window, the same for the life of the stage: it is
+	 * retargeted to the data of every reloaded window. The changes are expected
+	 * to be reflected by the {@link Resolution} as well, so they survive the
+	 * window reload
+	 * 
+	 * @return the observable model
+	 */
+	public ObservableData<D> getModel() {
+		return model;
+	}
+
+	/**
+	 * Invalidates only the rows and the time range affected by the change unless
+	 * the layout is changed
+	 * 
+	 * @param event the committed change
+	 */
+	private void changed(ModelEvent event) {
+		if (isDisposed()) {
+			return;
+		}
+		calculator.forget(event.bricks());
+		if (event.structural()) {
+			calculateObjectBounds();
+			updateScrollers();
+			redraw();
+			return;
+		}
+		Rectangle client = getClientArea();
+		int x = 0;
+		int width = client.width;
+		Optional<Position> range = event.range();
+		if (range.isPresent()) {
+			long from = Math.round((range.get().start() - pxHint) * pxlHint) - Calculator.SCREEN_MARGIN;
+			long to = Math.round((range.get().end() - pxHint) * pxlHint) + Calculator.SCREEN_MARGIN;
+			if (to < 0 || from > client.width) {
+				return;
+			}
+			x = (int) Math.max(0, from);
+			width = (int) Math.min(client.width, to) - x;
+		}
+		for (String row : event.rows()) {
+			Area area = calculator.getGroupAreaByFqid(row);
+			if (area != null) {
+				redraw(x, area.y() - pyHint, width, area.height(), false);
+			}
+		}
 	}
 
 	private void initCalculator() {
@@ -121,8 +237,7 @@ public final class Stage<D> extends Canvas {
 	private void initScrollBarHorizontal() {
 		scrollBarHorizontal = getHorizontalBar();
 		scrollBarHorizontal.setVisible(true);
-		scrollBarHorizontal.setPageIncrement(scale);
-		scrollBarHorizontal.setMaximum(pXMax);
+		scrollBarHorizontal.setMaximum(0);
 		scrollBarHorizontal.addListener(SWT.Selection, new Listener() {
 			@Override
 			public void handleEvent(Event event) {
@@ -154,6 +269,11 @@ public final class Stage<D> extends Canvas {
 		addMouseTrackListener(mouse);
 		addListener(SWT.MouseWheel, new StageWheel<>(this));
 		addListener(SWT.Resize, new StageResize<>(this));
+		addListener(SWT.KeyDown, new StageKeys<>(this));
+		addListener(SWT.Dispose, e -> {
+			prefetch.dispose();
+			surface.dispose();
+		});
 	}
 
 	public void verticalScroll(Event event) {
@@ -175,105 +295,92 @@ public final class Stage<D> extends Canvas {
 		if (!scrollBarHorizontal.isVisible()) {
 			return;
 		}
-		setPositionByX(scrollBarHorizontal.getSelection() * pxlHint * scale);
+		setPositionByX(Math.round(fromHorizontalScrollBar(scrollBarHorizontal.getSelection()) * pxlHint));
 		applyHint();
 		redraw();
 	}
 
 	public void updateScrollers() {
 		pMaxVertical = calculator.getGroupsAreaHeight();
-		Optional<Position> optPosition = registry.getMaxBrickPosition();
-		if (optPosition.isPresent()) {
-			pMaxHorizontal = (int) (optPosition.get().end());
+		Optional<Position> extent = access.extent();
+		if (extent.isPresent()) {
+			pMaxHorizontal = extent.get().end();
+		} else {
+			// only a window is loaded, so the range grows as the windows are loaded
+			Optional<Position> optPosition = registry.getMaxBrickPosition();
+			if (optPosition.isPresent()) {
+				pMaxHorizontal = Math.max(pMaxHorizontal, optPosition.get().end());
+			}
+			if (window != null) {
+				pMaxHorizontal = Math.max(pMaxHorizontal, window.end() + getVisibleUnits());
+			}
 		}
 		scrollBarVertical.setMaximum(pMaxVertical);
 		scrollBarVertical.setSelection(pyHint);
-		scrollBarHorizontal.setMaximum(pMaxHorizontal);
-		scrollBarHorizontal.setSelection(pxHint);
+		scrollBarHorizontal.setMaximum(toHorizontalScrollBar(pMaxHorizontal));
+		scrollBarHorizontal.setSelection(toHorizontalScrollBar(pxHint));
+		scrollBarHorizontal.setPageIncrement(Math.max(1, toHorizontalScrollBar(getVisibleUnits())));
+	}
+
+	private int toHorizontalScrollBar(long units) {
+		if (pMaxHorizontal <= HORIZONTAL_SCROLLBAR_RANGE) {
+			return (int) Math.max(0, Math.min(units, HORIZONTAL_SCROLLBAR_RANGE));
+		}
+		return (int) Math.max(0, Math.min(HORIZONTAL_SCROLLBAR_RANGE,
+				(long) ((double) units * HORIZONTAL_SCROLLBAR_RANGE / pMaxHorizontal)));
+	}
+
+	private long fromHorizontalScrollBar(int selection) {
+		if (pMaxHorizontal <= HORIZONTAL_SCROLLBAR_RANGE) {
+			return selection;
+		}
+		return (long) ((double) selection * pMaxHorizontal / HORIZONTAL_SCROLLBAR_RANGE);
 	}
 
 	public void handleResize() {
 	}
 
+	/**
+	 * Paints the frame with the surface kept for the life of the stage, see
+	 * {@link StageFrame}
+	 * 
+	 * @param event the paint event
+	 */
 	public void repaint(PaintEvent event) {
-		Rectangle clientArea = super.getClientArea();
-		Display.getDefault().syncExec(new Runnable() {
-
-			@Override
-			public void run() {
-				GC gc = event.gc;
-				renderers.getDrawingStagePainter().draw(gc, clientArea);
-				ChronographStageLinesRenderer stageLinesPainter = renderers.getStageLinesPainter();
-				stageLinesPainter.draw(gc, clientArea, scale, pxlHint, pxHint, pX);
-				for (Group section : registry.groups()) {
-					List<Group> groupsBySection = registry.subGroups(section);
-					for (Group group : groupsBySection) {
-						List<Group> subGroups = registry.getSubGroupByGroupSection(group);
-						for (Group subgroup : subGroups) {
-							Area area = calculator.getGroupAreaByGroup(subgroup);
-							if (area == null) {
-								continue;
-							}
-							List<Brick<D>> bricks = registry.getBrickBySubgroup(subgroup.id(), group.id(),
-									section.id());
-							if (bricks != null) {
-								Collection<Brick<D>> selectedBriks = getSelectedObject();
-								Collection<Brick<D>> markedBricks = filterBricksBySeleted(bricks, selectedBriks);
-								drawSceneObjects(gc, area, bricks);
-								if (!markedBricks.isEmpty()) {
-									drawSelectedObjects(gc, area, markedBricks);
-								}
-							}
-							Rectangle groupRectangle = areaRectangle.apply(area);
-							renderers.getDrawingGroupPainter().draw(gc, labelProvider.groupText(subgroup),
-									groupRectangle, getDisplay(), SectionStyler.getSectionWidth(), pyHint);
-						}
-						Area area = calculator.getGroupAreaByGroup(group);
-						if (area == null) {
-							continue;
-						}
-						Rectangle groupRectangle = areaRectangle.apply(area);
-						renderers.getDrawingGroupPainter().draw(gc, labelProvider.groupText(group), groupRectangle,
-								getDisplay(), SectionStyler.getSectionWidth(), pyHint);
-					}
-					Area area = calculator.getGroupAreaByGroup(section);
-					if (area == null) {
-						continue;
-					}
-
-					Rectangle sectionRectangle = areaRectangle.apply(area);
-					renderers.getDrawingSectionPainter().draw(gc, labelProvider.groupText(section), sectionRectangle,
-							getDisplay(), SectionStyler.getSectionWidth(), pyHint);
-				}
-				// status line
-				renderers.getDrawingStatusPainter().draw(gc, clientArea, registry.query(actualBricks).size(),
-						registry.query(expiredBricks).size(), pyHint);
-
-				List<ChronographStageRulerRenderer> list = renderers.getDrawingRulersPainter();
-				for (ChronographStageRulerRenderer painter : list) {
-					painter.draw(gc, clientArea, scale, pxlHint, pxHint, pX);
-				}
-			}
-		});
+		long now = converter.toUnits(System.currentTimeMillis());
+		painter.viewport(pxlHint, pxHint, pyHint, zoom);
+		surface.attach(event.gc, getFont());
+		try {
+			frame.paint(surface, super.getClientArea(), registry, calculator, bricksSelected, now, overlay);
+		} finally {
+			surface.detach();
+		}
+	}
 
+	/**
+	 * Shows or hides the performance overlay, the phases of the frames are
+	 * measured while it is shown
+	 */
+	public void toggleOverlay() {
+		overlay = !overlay;
+		painter.profile(overlay);
+		redraw();
 	}
 
-	private Collection<Brick<D>> filterBricksBySeleted(Collection<Brick<D>> bricks,
-			Collection<Brick<D>> selectedBriks) {
-		List<Brick<D>> markedBricks = new ArrayList<>();
-		for (Brick<D> selectedBrick : selectedBriks) {
-			for (Brick<D> brick : bricks) {
-				if (brick.id().equals(selectedBrick.id())
-						&& brick.position().start() == selectedBrick.position().start()) {
-					markedBricks.add(brick);
-				}
-			}
-		}
-		return markedBricks;
+	/**
+	 * 
+	 * @return <code>true</code> if the performance overlay is shown
+	 */
+	public boolean isOverlayShown() {
+		return overlay;
 	}
 
-	private List<Brick<D>> getSelectedObject() {
-		return bricksSelected;
+	/**
+	 * 
+	 * @return the metrics of the stage, updated after every frame
+	 */
+	public Metrics metrics() {
+		return metrics;
 	}
 
 	@Override
@@ -289,50 +396,28 @@ public final class Stage<D> extends Canvas {
 	}
 
 	void calculateObjectBounds() {
+		long start = System.nanoTime();
 		calculator.calculateObjectBounds(super.getBounds(), zoom);
-
+		metrics.record(Timer.LAYOUT, System.nanoTime() - start);
 	}
 
-	private void drawSceneObjects(final GC gc, Area area, final Collection<Brick<D>> bricks) {
-		if (area == null) {
-			return;
-		}
-		bricks.stream().forEach(brick -> {
-			calculator.calculateObjectPosition(brick, area, pxHint, pyHint, pxlHint);
-			Area brickArea = calculator.getBrickAreaById(brick.id());
-			if (brickArea != null) {
-				Rectangle rectangleArea = areaRectangle.apply(brickArea);
-				renderers.getContentPainter().draw(brick, gc, rectangleArea, pyHint);
-				String label = labelProvider.brickText(brick);
-				renderers.getLabelPainter().drawLabel(label, brick.position(), gc, rectangleArea, pyHint, pxlHint,
-						zoom);
-				renderers.getDurationPainter().drawObjectDuration(brick, gc, pyHint);
-			}
-		});
+	public void navigateToUnit(long hint) {
+		pX = Math.round(hint * pxlHint);
+		applyHint();
+		redraw();
 	}
 
-	private void drawSelectedObjects(final GC gc, Area area, final Collection<Brick<D>> bricks) {
-		if (area == null) {
-			return;
-		}
-		for (Brick<D> brick : bricks) {
-			calculator.calculateObjectPosition(brick, area, pxHint, pyHint, pxlHint);
-			Area brickArea = calculator.getBrickAreaById(brick.id());
-			if (brickArea == null) {
-				continue;
-			}
-			Rectangle rectangleArea = areaRectangle.apply(brickArea);
-			renderers.getSelectedContentPainter().draw(brick, gc, rectangleArea, pyHint);
-			String label = labelProvider.brickText(brick);
-			renderers.getLabelPainter().drawLabel(label, brick.position(), gc, rectangleArea, pyHint, pxlHint, zoom);
-			renderers.getDurationPainter().drawObjectDuration(brick, gc, pyHint);
-		}
+	/**
+	 * Navigates to the unit containing the given moment
+	 * 
+	 * @param epochMillis the moment in epoch milliseconds
+	 */
+	public void navigateToMoment(long epochMillis) {
+		navigateToUnit(converter.toUnits(epochMillis));
 	}
 
-	public void navigateToUnit(int hint) {
-		pX = hint * pxlHint * scale;
-		applyHint();
-		redraw();
+	public UnitConverter getConverter() {
+		return converter;
 	}
 
 	public void clearSceneObjects() {
@@ -356,32 +441,47 @@ public final class Stage<D> extends Canvas {
 		redraw();
 	}
 
-	public int getScale() {
-		return scale;
-	}
-
-	private void updateStageScale() {
-		if (scale <= 0) {
-			scale = 1;
-		}
-		pxlHint = scale;
+	/**
+	 * 
+	 * @return the amount of pixels per unit, fractional if the stage is zoomed out
+	 *         below a pixel per unit
+	 */
+	public double getScale() {
+		return pxlHint;
 	}
 
+	/**
+	 * Zooms out by one step, down to a year per {@link #YEAR_PIXELS_MIN} pixels
+	 */
 	public void scaleUp() {
 		checkWidget();
-		scale--;
-		updateStageScale();
-		redraw();
-		updateScrollers();
-		navigateToUnit(pxHint);
+		rescale(pxlHint / SCALE_FACTOR);
 	}
 
+	/**
+	 * Zooms in by one step, up to a minute or a unit per
+	 * {@link #MINUTE_PIXELS_MAX} pixels
+	 */
 	public void scaleDown() {
 		checkWidget();
-		scale++;
-		updateStageScale();
+		rescale(pxlHint * SCALE_FACTOR);
+	}
+
+	/**
+	 * Sets the amount of pixels per unit within the zoom limits, the first
+	 * visible unit is kept
+	 * 
+	 * @param pixels the amount of pixels per unit
+	 */
+	private void rescale(double pixels) {
+		double unitMillis = converter.unit().toMillis(1);
+		double min = YEAR_PIXELS_MIN * unitMillis / ChronoUnit.YEARS.getDuration().toMillis();
+		double max = MINUTE_PIXELS_MAX * Math.max(1, unitMillis / TimeUnit.MINUTES.toMillis(1));
+		long hint = pxHint;
+		pxlHint = Math.max(min, Math.min(max, pixels));
 		redraw();
-		navigateToUnit(pxHint);
+		navigateToUnit(hint);
+		updateScrollers();
 	}
 
 	@Override
@@ -389,7 +489,7 @@ public final class Stage<D> extends Canvas {
 		super.redraw();
 	}
 
-	int getPositionByX() {
+	long getPositionByX() {
 		return pX;
 	}
 
@@ -397,7 +497,7 @@ public final class Stage<D> extends Canvas {
 		return pY;
 	}
 
-	void setPositionByX(int x) {
+	void setPositionByX(long x) {
 		this.pX = x;
 	}
 
@@ -411,7 +511,48 @@ public final class Stage<D> extends Canvas {
 	}
 
 	void applyHint() {
-		pxHint = pX / (pxlHint * scale);
+		pxHint = (long) Math.floor(pX / pxlHint);
+		// any move away from the live edge stops following the current moment
+		pinned = feed != null && atLiveEdge();
+		prefetch.moved(pxHint, getVisibleUnits(), window);
+		checkWindow();
+	}
+
+	/**
+	 * 
+	 * @return the amount of units visible on the stage
+	 */
+	long getVisibleUnits() {
+		return Math.max(1, (long) Math.ceil(super.getClientArea().width / pxlHint));
+	}
+
+	/**
+	 * The window requested from the {@link Resolution} contains the visible units
+	 * and the margin of the same size on each side
+	 * 
+	 * @return the time window to request
+	 */
+	private QueryImpl requestWindow() {
+		long units = getVisibleUnits();
+		return new QueryImpl(pxHint - units, pxHint + 2 * units);
+	}
+
+	/**
+	 * Reloads the window unless it covers the visible units, called when the
+	 * stage is moved or resized
+	 */
+	void checkWindow() {
+		if (window == null) {
+			return;
+		}
+		if (windowCovers()) {
+			return;
+		}
+		load(registry.structure());
+	}
+
+	private boolean windowCovers() {
+		return pxHint >= window.start() && pxHint + getVisibleUnits() <= window.end();
 	}
 
 	public Optional<Brick<D>> brickAt(int x, int y) {
@@ -457,26 +598,171 @@ public final class Stage<D> extends Canvas {
 		redraw();
 	}
 
+	/**
+	 * Structures the stage by the given types, the records of the loaded window
+	 * are regrouped in memory if the window still covers the visible units
+	 * 
+	 * @param types the types to group the input
+	 */
 	public void structure(List<Class<?>> types) {
-		registry = new PlainData<>(access);
-		calculator = new Calculator<>(registry);
-		registry.restructure(types);
-		calculateObjectBounds();
+		if (window == null || registry.structure().isEmpty() || !windowCovers()) {
+			load(types);
+			return;
+		}
+		Snapshot<D> previous = registry.snapshot();
+		long start = System.nanoTime();
+		registry.regroup(types);
+		metrics.record(Timer.RESTRUCTURE, System.nanoTime() - start);
+		reconcile(previous, calculator);
+	}
+
+	/**
+	 * Loads the window around the visible units, the partial snapshots are
+	 * painted while the input is retrieved
+	 * 
+	 * @param types the types to group the input
+	 */
+	private void load(List<Class<?>> types) {
+		Snapshot<D> previous = registry.snapshot();
+		Calculator<D> before = calculator;
+		PlainData<D> data = new PlainData<>(access);
+		QueryImpl query = requestWindow();
+		window = query.window().orElse(null);
+		access.focus(window.start(), window.end());
+		long start = System.nanoTime();
+		data.restructure(types, query, partial -> {
+			registry = data;
+			calculator = new Calculator<>(data);
+			calculateObjectBounds();
+			redraw();
+			update();
+		});
+		metrics.record(Timer.RESTRUCTURE, System.nanoTime() - start);
+		boolean partial = registry == data;
+		if (feed != null) {
+			feed.replay(data);
+		}
+		registry = data;
+		model.retarget(data);
+		reconcile(previous, before);
+		if (partial) {
+			// the partial snapshots were painted over the previous version
+			redraw();
+		}
+	}
+
+	/**
+	 * Matches the new version of data with the previous one by fqid and brick
+	 * identifier: the layout of the groups is kept if the group tree is the same,
+	 * the selection is kept, and only the changed rows are redrawn
+	 * 
+	 * @param previous the previous version of data
+	 * @param before   the calculator of the previous version
+	 */
+	private void reconcile(Snapshot<D> previous, Calculator<D> before) {
+		SnapshotDiff diff = SnapshotDiff.between(previous, registry.snapshot());
+		Calculator<D> adopted = new Calculator<>(registry);
+		boolean kept = adopted.adopt(before, diff);
+		calculator = adopted;
+		reselect();
+		if (!kept) {
+			updateStructure();
+			return;
+		}
+		updateScrollers();
+		int width = getClientArea().width;
+		for (String row : diff.changedRows()) {
+			Area area = calculator.getGroupAreaByFqid(row);
+			if (area != null) {
+				redraw(0, area.y() - pyHint, width, area.height(), false);
+			}
+		}
+	}
 
+	private void reselect() {
+		if (bricksSelected.isEmpty()) {
+			return;
+		}
+		Set<String> ids = new HashSet<>();
+		for (Brick<D> brick : bricksSelected) {
+			ids.add(brick.id());
+		}
+		bricksSelected = new ArrayList<>(registry.query(brick -> ids.contains(brick.id())));
+	}
+
+	private void updateStructure() {
+		calculateObjectBounds();
 		handleResize();
 		updateScrollers();
 		redraw();
 	}
 
 	public void refresh() {
-		structure(registry.structure());
+		access.invalidate();
+		load(registry.structure());
+	}
+
+	/**
+	 * Merges the given live feed with its cadence, the stage follows the current
+	 * moment while its right edge is at it, until it is moved away. Following
+	 * the same feed again has no effect.
+	 * 
+	 * @param live the feed to follow or <code>null</code> to stop
+	 */
+	public void follow(LiveFeed<D> live) {
+		checkWidget();
+		if (live == feed) {
+			return;
+		}
+		this.feed = live;
+		if (live == null) {
+			pinned = false;
+			return;
+		}
+		live.replay(registry);
+		pinned = atLiveEdge();
+		getDisplay().timerExec((int) live.cadence(), () -> tick(live));
+	}
+
+	private void tick(LiveFeed<D> live) {
+		if (isDisposed() || live != feed) {
+			return;
+		}
+		long now = converter.toUnits(System.currentTimeMillis());
+		if (live.merge(registry, now)) {
+			calculateObjectBounds();
+			updateScrollers();
+		}
+		if (pinned) {
+			long visible = getVisibleUnits();
+			navigateToUnit(now - visible + liveEdgeTolerance(visible) / 2);
+		} else {
+			redraw();
+		}
+		getDisplay().timerExec((int) live.cadence(), () -> tick(live));
+	}
+
+	/**
+	 * 
+	 * @return <code>true</code> if the right edge of the stage is at the current
+	 *         moment or just past it
+	 */
+	private boolean atLiveEdge() {
+		long now = converter.toUnits(System.currentTimeMillis());
+		long visible = getVisibleUnits();
+		long right = pxHint + visible;
+		return right >= now && right - now <= liveEdgeTolerance(visible);
+	}
+
+	private static long liveEdgeTolerance(long visible) {
+		return Math.max(1, visible / LIVE_EDGE_FRACTION);
 	}
 
 	public void reset() {
-		zoom = 2;
-		scale = 3;
-		updateStageScale();
-		navigateToUnit(UnitConverter.localDatetoUnits(LocalDate.now().minusMonths(5)));
+		zoom = ZOOM_DEF;
+		pxlHint = SCALE_DEF;
+		navigateToUnit(
+				converter.toUnits(System.currentTimeMillis()) - converter.span(RESET_BACKLOG_DAYS, TimeUnit.DAYS));
 		calculateObjectBounds();
 		redraw();
 	}
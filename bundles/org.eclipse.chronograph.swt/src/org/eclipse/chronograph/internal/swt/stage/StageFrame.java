@@ -0,0 +1,83 @@
+/*******************************************************************************
+ *	Copyright (c) 2020 ArSysOp
+ *
+ *	This program and the accompanying materials are made available under the
+ *	terms of the Eclipse Public License 2.0 which is available at
+ *	http://www.eclipse.org/legal/epl-2.0.
+ *
+ *	SPDX-License-Identifier: EPL-2.0
+ *
+ *	Contributors:
+ *	Sergei Kovalchuk <sergei.kovalchuk@arsysop.ru> - 
+ *												initial API and implementation
+ *******************************************************************************/
+package org.eclipse.chronograph.internal.swt.stage;
+
+import java.util.Collection;
+
+import org.eclipse.chronograph.internal.api.graphics.Brick;
+import org.eclipse.chronograph.internal.api.metrics.Gauge;
+import org.eclipse.chronograph.internal.api.metrics.Timer;
+import org.eclipse.chronograph.internal.base.PlainData;
+import org.eclipse.chronograph.internal.base.data.WindowCache;
+import org.eclipse.chronograph.internal.base.metrics.MetricsImpl;
+import org.eclipse.chronograph.internal.swt.renderers.api.Surface;
+import org.eclipse.swt.graphics.Rectangle;
+
+/**
+ * 
+ * The frame of the {@link Stage} without the widget: takes the status counts
+ * from the window cache, paints the scene and publishes the metrics, so the
+ * whole paint path of the stage may be run without a display
+ *
+ * @param <D> the type of data object
+ */
+public final class StageFrame<D> {
+
+	private final ScenePainter<D> painter;
+	private final WindowCache<D> access;
+	private final MetricsImpl metrics;
+
+	/**
+	 * 
+	 * @param painter the painter with the viewport set
+	 * @param access  the window cache providing the status counts
+	 * @param metrics the metrics updated after every frame
+	 */
+	public StageFrame(ScenePainter<D> painter, WindowCache<D> access, MetricsImpl metrics) {
+		this.painter = painter;
+		this.access = access;
+		this.metrics = metrics;
+	}
+
+	/**
+	 * Paints the snapshot taken once for the whole frame, so the frame is
+	 * consistent even if the next version is being published meanwhile
+	 * 
+	 * @param surface    the surface to paint on
+	 * @param clientArea the visible area
+	 * @param data       the loaded data
+	 * @param calculator the layout of the loaded data
+	 * @param selected   the selected bricks
+	 * @param now        the current moment in units
+	 * @param overlay    <code>true</code> to paint the performance overlay
+	 */
+	public void paint(Surface surface, Rectangle clientArea, PlainData<D> data, Calculator<D> calculator,
+			Collection<Brick<D>> selected, long now, boolean overlay) {
+		long start = System.nanoTime();
+		painter.paint(surface, clientArea, data.snapshot(), calculator, selected, access.actual(now),
+				access.expired(now));
+		metrics.record(Timer.FRAME, System.nanoTime() - start);
+		metrics.set(Gauge.BRICKS_LOADED, data.size());
+		metrics.set(Gauge.BRICKS_VISIBLE, painter.visible());
+		metrics.set(Gauge.BRICKS_CULLED, painter.culled());
+		metrics.set(Gauge.CACHE_HITS, access.hits());
+		metrics.set(Gauge.CACHE_MISSES, access.misses());
+		metrics.set(Gauge.RESIDENT_BYTES, access.resident());
+		if (overlay) {
+			painter.paintOverlay(surface, clientArea, metrics);
+		}
+		metrics.publish();
+	}
+
+}
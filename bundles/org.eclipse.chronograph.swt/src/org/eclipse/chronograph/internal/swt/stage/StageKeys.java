@@ -0,0 +1,45 @@
+/*******************************************************************************
+ *	Copyright (c) 2020 ArSysOp
+ *
+ *	This program and the accompanying materials are made available under the
+ *	terms of the Eclipse Public License 2.0 which is available at
+ *	http://www.eclipse.org/legal/epl-2.0.
+ *
+ *	SPDX-License-Identifier: EPL-2.0
+ *
+ *	Contributors:
+ *	Sergei Kovalchuk <sergei.kovalchuk@arsysop.ru> - 
+ *												initial API and implementation
+ *******************************************************************************/
+package org.eclipse.chronograph.internal.swt.stage;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Event;
+import org.eclipse.swt.widgets.Listener;
+
+/**
+ * 
+ * Toggles the performance overlay of the stage with <code>Ctrl+Shift+H</code>,
+ * <code>Cmd+Shift+H</code> on Mac
+ *
+ */
+final class StageKeys<D> implements Listener {
+
+	private static final int OVERLAY_MODIFIERS = SWT.MOD1 | SWT.MOD2;
+	private static final int OVERLAY_KEY = 'h';
+
+	private final Stage<D> stage;
+
+	public StageKeys(Stage<D> stage) {
+		this.stage = stage;
+	}
+
+	@Override
+	public void handleEvent(Event event) {
+		if ((event.stateMask & SWT.MODIFIER_MASK) == OVERLAY_MODIFIERS && event.keyCode == OVERLAY_KEY) {
+			stage.toggleOverlay();
+			event.doit = false;
+		}
+	}
+
+}
@@ -42,7 +42,7 @@ final class StageMouse<D> implements MouseListener, MouseMoveListener, MouseTrac
 	private Point startPoint;
 	private Tracker tracker;
 	private boolean isMouseDown;
-	private int xPosition = 0;
+	private long xPosition = 0;
 
 	public StageMouse(Stage<D> stage) {
 		this.stage = stage;
@@ -56,7 +56,7 @@ final class StageMouse<D> implements MouseListener, MouseMoveListener, MouseTrac
 					startPoint = new Point(me.x, me.y);
 				}
 				int xDiff = me.x - startPoint.x;
-				int deltaXPosition = xPosition - (xDiff * stage.getScale());
+				long deltaXPosition = xPosition - xDiff;
 				if (deltaXPosition < 0) {
 					deltaXPosition = 0;
 				}
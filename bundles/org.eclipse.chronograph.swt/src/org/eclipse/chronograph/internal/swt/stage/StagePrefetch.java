@@ -0,0 +1,142 @@
+/*******************************************************************************
+ *	Copyright (c) 2020 ArSysOp
+ *
+ *	This program and the accompanying materials are made available under the
+ *	terms of the Eclipse Public License 2.0 which is available at
+ *	http://www.eclipse.org/legal/epl-2.0.
+ *
+ *	SPDX-License-Identifier: EPL-2.0
+ *
+ *	Contributors:
+ *	Sergei Kovalchuk <sergei.kovalchuk@arsysop.ru> - 
+ *												initial API and implementation
+ *******************************************************************************/
+package org.eclipse.chronograph.internal.swt.stage;
+
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.chronograph.internal.api.graphics.Position;
+import org.eclipse.chronograph.internal.base.data.WindowCache;
+
+/**
+ * 
+ * Watches the velocity and the direction of panning and loads the time windows
+ * next to the current one into the {@link WindowCache} on a background thread,
+ * so the data is ready before it is scrolled into view. The requests are
+ * coalesced: while the background thread is busy only the latest one is kept.
+ * The underlying resolution is therefore accessed from the background thread
+ * as well.
+ *
+ * @param <D>
+ */
+final class StagePrefetch<D> {
+
+	/**
+	 * The amount of time to look ahead at the current panning velocity
+	 */
+	private static final long HORIZON_MILLIS = 1000;
+	/**
+	 * Movements separated by a longer pause are not considered as one panning
+	 */
+	private static final long PAUSE_MILLIS = 500;
+
+	private final WindowCache<D> cache;
+	private final ExecutorService executor;
+	/**
+	 * The ranges of the latest request that is not started yet, as pairs of the
+	 * first and the last unit
+	 */
+	private final AtomicReference<long[]> pending = new AtomicReference<>();
+	private final AtomicBoolean scheduled = new AtomicBoolean();
+	private long lastHint;
+	private long lastNanos;
+	/**
+	 * Smoothed panning velocity in units per millisecond, the sign is the direction
+	 */
+	private double velocity;
+
+	public StagePrefetch(WindowCache<D> cache) {
+		this.cache = cache;
+		this.executor = Executors.newSingleThreadExecutor(r -> {
+			Thread thread = new Thread(r, "Chronograph Prefetch"); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Registers the movement of the stage and schedules the loading of the
+	 * adjacent windows in the panning direction
+	 * 
+	 * @param hint    the current horizontal offset in units
+	 * @param visible the amount of visible units
+	 * @param window  the currently loaded time window, may be <code>null</code>
+	 */
+	public void moved(long hint, long visible, Position window) {
+		long nanos = System.nanoTime();
+		long elapsed = TimeUnit.NANOSECONDS.toMillis(nanos - lastNanos);
+		if (lastNanos != 0 && elapsed < PAUSE_MILLIS) {
+			double current = (double) (hint - lastHint) / Math.max(1, elapsed);
+			velocity = (velocity + current) / 2;
+		} else {
+			velocity = 0;
+		}
+		lastHint = hint;
+		lastNanos = nanos;
+		if (window == null) {
+			return;
+		}
+		long ahead = visible + (long) Math.ceil(Math.abs(velocity) * HORIZON_MILLIS);
+		long[] ranges = new long[4];
+		int count = 0;
+		if (velocity >= 0) {
+			count = request(ranges, count, window.end() + 1, window.end() + ahead);
+		}
+		if (velocity <= 0) {
+			count = request(ranges, count, window.start() - ahead, window.start() - 1);
+		}
+		if (count == 0) {
+			return;
+		}
+		// only the latest request is kept, the drain is scheduled once for all
+		pending.set(Arrays.copyOf(ranges, count));
+		if (scheduled.compareAndSet(false, true)) {
+			try {
+				executor.execute(this::drain);
+			} catch (RejectedExecutionException e) {
+				// disposed
+			}
+		}
+	}
+
+	private int request(long[] ranges, int count, long from, long to) {
+		if (cache.covers(from, to)) {
+			return count;
+		}
+		ranges[count] = from;
+		ranges[count + 1] = to;
+		return count + 2;
+	}
+
+	private void drain() {
+		scheduled.set(false);
+		long[] ranges = pending.getAndSet(null);
+		if (ranges == null) {
+			return;
+		}
+		for (int i = 0; i < ranges.length; i += 2) {
+			cache.prefetch(ranges[i], ranges[i + 1]);
+		}
+	}
+
+	public void dispose() {
+		executor.shutdownNow();
+	}
+
+}
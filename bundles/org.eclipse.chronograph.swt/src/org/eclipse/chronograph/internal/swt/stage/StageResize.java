@@ -27,6 +27,8 @@ final class StageResize<D> implements Listener {
 	@Override
 	public void handleEvent(Event event) {
 		stage.calculateObjectBounds();
+		// the window may be loaded before the stage got its size
+		stage.checkWindow();
 		stage.handleResize();
 		stage.redraw();
 	}
@@ -0,0 +1,68 @@
+/*******************************************************************************
+ * Copyright (c) 2020 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.chronograph.api.test;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.eclipse.chronograph.api.test.TestResolution.SubContainer;
+import org.eclipse.chronograph.internal.base.data.CachingResolution;
+import org.eclipse.chronograph.internal.base.data.DelegatingResolution;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CachingResolutionTest {
+
+	private final TestInputObject first = object("first", 0); //$NON-NLS-1$
+	private final TestInputObject second = object("second", 2); //$NON-NLS-1$
+	private final AtomicInteger groupings = new AtomicInteger();
+	private final CachingResolution<TestInputObject> caching = new CachingResolution<>(
+			new DelegatingResolution<TestInputObject>(new TestResolution(Arrays.asList(first, second))) {
+				@Override
+				public <G> Function<TestInputObject, String> grouping(Class<G> grouping) {
+					Function<TestInputObject, String> keys = delegate.grouping(grouping);
+					return object -> {
+						groupings.incrementAndGet();
+						return keys.apply(object);
+					};
+				}
+			});
+
+	@Test
+	public void sharedIdentifier() {
+		Function<TestInputObject, String> grouping = caching.grouping(SubContainer.class);
+		Assert.assertEquals("first", grouping.apply(first)); //$NON-NLS-1$
+		Assert.assertEquals("second", grouping.apply(second)); //$NON-NLS-1$
+		Assert.assertEquals("same", caching.identification(TestInputObject.class).apply(second)); //$NON-NLS-1$
+		Assert.assertEquals(2, caching.startAsLong().applyAsLong(second));
+		Assert.assertEquals(3, caching.endAsLong().applyAsLong(second));
+	}
+
+	@Test
+	public void memoized() {
+		Function<TestInputObject, String> grouping = caching.grouping(SubContainer.class);
+		grouping.apply(first);
+		grouping.apply(first);
+		Assert.assertEquals(1, groupings.get());
+		caching.invalidate();
+		grouping.apply(first);
+		Assert.assertEquals(2, groupings.get());
+	}
+
+	private static TestInputObject object(String subContainer, int start) {
+		return new TestInputObject("same", "container", subContainer, "root", subContainer, subContainer, start, //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				start + 1);
+	}
+
+}
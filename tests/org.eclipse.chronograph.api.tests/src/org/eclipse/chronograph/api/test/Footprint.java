@@ -0,0 +1,97 @@
+/*******************************************************************************
+ * Copyright (c) 2020 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.chronograph.api.test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.function.IntFunction;
+
+/**
+ *
+ * Measures the heap retained by the object graphs as the delta of the used heap
+ * after the collection. The bytes per unit are the slope of the retained heap
+ * over the increasing sizes, so the constant overhead and the noise of the
+ * single measurement are cancelled
+ *
+ */
+public final class Footprint {
+
+	private static final int SETTLE_ATTEMPTS = 10;
+	private static final MemoryMXBean MEMORY = ManagementFactory.getMemoryMXBean();
+	/**
+	 * Keeps the built graph reachable while the heap is measured
+	 */
+	private static volatile Object graph;
+
+	private Footprint() {
+	}
+
+	/**
+	 *
+	 * @param build the function building the graph of the given size
+	 * @param size  the size of the graph
+	 * @return the bytes retained by the built graph
+	 */
+	public static long retained(IntFunction<Object> build, int size) {
+		long before = settle();
+		graph = build.apply(size);
+		long after = settle();
+		graph = null;
+		return after - before;
+	}
+
+	/**
+	 *
+	 * @param build the function building the graph of the given size
+	 * @param sizes the increasing sizes to build
+	 * @return the bytes retained per unit of size
+	 */
+	public static double perUnit(IntFunction<Object> build, int... sizes) {
+		double[] retained = new double[sizes.length];
+		double meanSize = 0;
+		double meanRetained = 0;
+		for (int i = 0; i < sizes.length; i++) {
+			retained[i] = retained(build, sizes[i]);
+			meanSize += sizes[i];
+			meanRetained += retained[i];
+		}
+		meanSize /= sizes.length;
+		meanRetained /= sizes.length;
+		double covariance = 0;
+		double variance = 0;
+		for (int i = 0; i < sizes.length; i++) {
+			covariance += (sizes[i] - meanSize) * (retained[i] - meanRetained);
+			variance += (sizes[i] - meanSize) * (sizes[i] - meanSize);
+		}
+		return covariance / variance;
+	}
+
+	/**
+	 * Collects the garbage until the used heap stops shrinking
+	 *
+	 * @return the used heap in bytes
+	 */
+	private static long settle() {
+		long used = Long.MAX_VALUE;
+		for (int i = 0; i < SETTLE_ATTEMPTS; i++) {
+			System.gc();
+			long current = MEMORY.getHeapMemoryUsage().getUsed();
+			if (current >= used) {
+				return current;
+			}
+			used = current;
+		}
+		return used;
+	}
+
+}
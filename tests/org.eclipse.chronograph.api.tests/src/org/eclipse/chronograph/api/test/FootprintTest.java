@@ -0,0 +1,150 @@
+/*******************************************************************************
+ * Copyright (c) 2020 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.chronograph.api.test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+import org.eclipse.chronograph.internal.base.BrickImpl;
+import org.eclipse.chronograph.internal.base.GroupImpl;
+import org.eclipse.chronograph.internal.base.PlainData;
+import org.eclipse.chronograph.internal.base.PositionImpl;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ *
+ * The heap retained per brick and per group by the model objects and by
+ * {@link PlainData}, measured with {@link Footprint} over the datasets of the
+ * increasing size. The domain objects are not counted
+ *
+ */
+public class FootprintTest {
+
+	/**
+	 * The bytes per {@link PositionImpl}
+	 */
+	private static final long POSITION_BUDGET = 40;
+	/**
+	 * The bytes per {@link BrickImpl} with its {@link PositionImpl}, the
+	 * identifier and the data are shared
+	 */
+	private static final long BRICK_BUDGET = 72;
+	/**
+	 * The bytes per {@link GroupImpl} with its fqid, the identifier and the data
+	 * are shared
+	 */
+	private static final long GROUP_BUDGET = 120;
+	/**
+	 * The bytes per brick structured by {@link PlainData}, including the brick
+	 * identifier, the record and the indexes
+	 */
+	private static final long PLAIN_DATA_BRICK_BUDGET = 160;
+	/**
+	 * The bytes per subgroup structured by {@link PlainData}, including its
+	 * lists in the indexes and in the snapshot
+	 */
+	private static final long PLAIN_DATA_GROUP_BUDGET = 560;
+	private static final int[] OBJECTS = { 100_000, 200_000, 400_000 };
+	private static final int[] BRICKS = { 20_000, 40_000, 80_000 };
+	private static final int[] SUBGROUPS = { 1_000, 2_000, 4_000 };
+
+	@Test
+	public void position() {
+		assertBudget("PositionImpl", Footprint.perUnit(size -> { //$NON-NLS-1$
+			List<PositionImpl> positions = new ArrayList<>(size);
+			for (int i = 0; i < size; i++) {
+				positions.add(new PositionImpl(i, i + 1));
+			}
+			return positions;
+		}, OBJECTS) - reference(), POSITION_BUDGET);
+	}
+
+	@Test
+	public void brick() {
+		String id = "brick"; //$NON-NLS-1$
+		Object data = new Object();
+		assertBudget("BrickImpl", Footprint.perUnit(size -> { //$NON-NLS-1$
+			List<BrickImpl<Object>> bricks = new ArrayList<>(size);
+			for (int i = 0; i < size; i++) {
+				bricks.add(new BrickImpl<>(id, i, i + 1, data));
+			}
+			return bricks;
+		}, OBJECTS) - reference(), BRICK_BUDGET);
+	}
+
+	@Test
+	public void group() {
+		String id = "group"; //$NON-NLS-1$
+		Object data = new Object();
+		assertBudget("GroupImpl", Footprint.perUnit(size -> { //$NON-NLS-1$
+			List<GroupImpl> groups = new ArrayList<>(size);
+			for (int i = 0; i < size; i++) {
+				groups.add(new GroupImpl(id, String.valueOf(i), 2, data));
+			}
+			return groups;
+		}, OBJECTS) - reference(), GROUP_BUDGET);
+	}
+
+	@Test
+	public void plainDataPerBrick() {
+		TestDataset dataset = new TestDataset(11).withHierarchy(2, 10, 10);
+		double input = Footprint.perUnit(size -> input(dataset.withBricks(size)), BRICKS);
+		double structured = Footprint.perUnit(size -> structure(input(dataset.withBricks(size))), BRICKS);
+		assertBudget("PlainData per brick", structured - input, PLAIN_DATA_BRICK_BUDGET); //$NON-NLS-1$
+	}
+
+	@Test
+	public void plainDataPerGroup() {
+		TestDataset dataset = new TestDataset(13).withBricks(BRICKS[0]);
+		double input = Footprint.perUnit(size -> input(dataset.withHierarchy(1, 10, size / 10)), SUBGROUPS);
+		double structured = Footprint.perUnit(size -> structure(input(dataset.withHierarchy(1, 10, size / 10))),
+				SUBGROUPS);
+		assertBudget("PlainData per subgroup", structured - input, PLAIN_DATA_GROUP_BUDGET); //$NON-NLS-1$
+	}
+
+	/**
+	 *
+	 * @return the bytes per element of the list holding the measured objects
+	 */
+	private static double reference() {
+		return Footprint.perUnit(size -> {
+			List<Object> objects = new ArrayList<>(size);
+			Object object = new Object();
+			for (int i = 0; i < size; i++) {
+				objects.add(object);
+			}
+			return objects;
+		}, OBJECTS);
+	}
+
+	private static List<TestInputObject> input(TestDataset dataset) {
+		return dataset.stream().collect(Collectors.toList());
+	}
+
+	private static Object[] structure(List<TestInputObject> input) {
+		PlainData<TestInputObject> data = new PlainData<>(new TestResolution(input));
+		data.restructure(TestResolution.STRUCTURE);
+		return new Object[] { input, data };
+	}
+
+	private static void assertBudget(String subject, double bytes, long budget) {
+		String message = String.format(Locale.ROOT, "%s retains %.1f bytes, the budget is %d", //$NON-NLS-1$
+				subject, bytes, budget);
+		Assert.assertTrue(message, bytes > 0);
+		Assert.assertTrue(message, bytes <= budget);
+	}
+
+}
@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright (c) 2020 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.chronograph.api.test;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.Optional;
+
+import org.eclipse.chronograph.api.test.TestDataset.Durations;
+import org.eclipse.chronograph.internal.api.graphics.Brick;
+import org.eclipse.chronograph.internal.api.graphics.Group;
+import org.eclipse.chronograph.internal.api.representation.Decoration;
+import org.eclipse.chronograph.internal.base.PlainData;
+import org.eclipse.chronograph.internal.base.UnitConverter;
+import org.eclipse.chronograph.internal.base.data.QueryImpl;
+import org.eclipse.chronograph.internal.base.data.WindowCache;
+import org.eclipse.chronograph.internal.base.metrics.MetricsImpl;
+import org.eclipse.chronograph.internal.swt.renderers.impl.ChronographManagerRenderers;
+import org.eclipse.chronograph.internal.swt.renderers.impl.RecordingSurface;
+import org.eclipse.chronograph.internal.swt.stage.Calculator;
+import org.eclipse.chronograph.internal.swt.stage.ScenePainter;
+import org.eclipse.chronograph.internal.swt.stage.StageFrame;
+import org.eclipse.swt.graphics.Rectangle;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+/**
+ *
+ * Repeated paints of the static scene along the paint path of the stage, with
+ * the status counts and the metrics, must not allocate once the layout, the
+ * labels and the text extents are cached
+ *
+ */
+public class PaintAllocationTest {
+
+	/**
+	 * The bytes per frame tolerated for the allocations outside of the painting
+	 * code, like the counter itself
+	 */
+	private static final long BUDGET = 256;
+	private static final int WARMUP = 2000;
+	private static final int FRAMES = 500;
+	private static final long NOW = 200;
+
+	@Test
+	public void steadyStatePaint() {
+		java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+		Assume.assumeTrue(threads instanceof com.sun.management.ThreadMXBean);
+		com.sun.management.ThreadMXBean allocation = (com.sun.management.ThreadMXBean) threads;
+		Assume.assumeTrue(allocation.isThreadAllocatedMemorySupported());
+		allocation.setThreadAllocatedMemoryEnabled(true);
+
+		TestDataset dataset = new TestDataset(7).withHierarchy(2, 4, 4).withBricks(2000)
+				.withDurations(Durations.UNIFORM, 10).withOverlap(0.3).withSpan(0, 400);
+		WindowCache<TestInputObject> access = new WindowCache<>(new TestResolution(dataset), 128, Long.MAX_VALUE);
+		PlainData<TestInputObject> data = new PlainData<>(access);
+		data.restructure(TestResolution.STRUCTURE, new QueryImpl(0, 400));
+		Rectangle bounds = new Rectangle(0, 0, 1280, 2000);
+		Calculator<TestInputObject> calculator = new Calculator<>(data, 30, 60, 5, 30);
+		calculator.calculateObjectBounds(bounds, 1);
+		ScenePainter<TestInputObject> painter = new ScenePainter<>(
+				new ChronographManagerRenderers<>(UnitConverter.DEFAULT), new Labels());
+		painter.viewport(3, 0, 0, 2);
+		StageFrame<TestInputObject> frame = new StageFrame<>(painter, access, new MetricsImpl());
+		RecordingSurface surface = new RecordingSurface();
+
+		for (int i = 0; i < WARMUP; i++) {
+			frame.paint(surface, bounds, data, calculator, Collections.emptyList(), NOW, false);
+		}
+		long thread = Thread.currentThread().getId();
+		long before = allocation.getThreadAllocatedBytes(thread);
+		for (int i = 0; i < FRAMES; i++) {
+			frame.paint(surface, bounds, data, calculator, Collections.emptyList(), NOW, false);
+		}
+		long perFrame = (allocation.getThreadAllocatedBytes(thread) - before) / FRAMES;
+		Assert.assertTrue(surface.draws() > 0);
+		Assert.assertTrue(access.actual(NOW) > 0);
+		Assert.assertTrue(access.expired(NOW) > 0);
+		Assert.assertTrue("Allocated " + perFrame + " bytes per frame", perFrame <= BUDGET); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	private static final class Labels implements Decoration<TestInputObject, Object> {
+
+		@Override
+		public Optional<Object> brickImage(Brick<TestInputObject> element) {
+			return Optional.empty();
+		}
+
+		@Override
+		public String brickText(Brick<TestInputObject> element) {
+			return element.data().name;
+		}
+
+		@Override
+		public String groupText(Group element) {
+			return element.id();
+		}
+
+	}
+
+}
@@ -0,0 +1,30 @@
+/*******************************************************************************
+ * Copyright (c) 2020 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.chronograph.api.test;
+
+import org.junit.runner.RunWith;
+import org.junit.runners.Suite;
+import org.junit.runners.Suite.SuiteClasses;
+
+/**
+ *
+ * The tests guarding the allocation and the heap footprint budgets. They are
+ * excluded from the regular build and run apart from the functional tests with
+ * a fixed heap by the <code>performance</code> profile
+ *
+ */
+@RunWith(Suite.class)
+@SuiteClasses({ PaintAllocationTest.class, FootprintTest.class })
+public class PerformanceSuite {
+
+}
@@ -0,0 +1,239 @@
+/*******************************************************************************
+ * Copyright (c) 2020 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.chronograph.api.test;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ *
+ * Synthetic timeline of {@link TestInputObject}s generated on the fly with the
+ * given seed: every iteration produces the same records one by one, so
+ * datasets of millions of bricks are never held in memory by the generator.
+ * The dataset is immutable, the <code>with*</code> methods return the changed
+ * copy
+ *
+ */
+public final class TestDataset implements Iterable<TestInputObject> {
+
+	/**
+	 * The distribution of the brick durations around the mean
+	 */
+	public enum Durations {
+		/**
+		 * Every brick lasts for the mean
+		 */
+		FIXED,
+		/**
+		 * Uniformly from one unit to the double mean
+		 */
+		UNIFORM,
+		/**
+		 * Mostly short bricks with a long tail
+		 */
+		EXPONENTIAL;
+
+		int next(Random random, int mean) {
+			switch (this) {
+			case FIXED:
+				return mean;
+			case UNIFORM:
+				return 1 + random.nextInt(2 * mean);
+			default:
+				return 1 + (int) Math.min(Integer.MAX_VALUE / 2, -Math.log(1 - random.nextDouble()) * mean);
+			}
+		}
+	}
+
+	private final long seed;
+	private final int sections;
+	private final int groups;
+	private final int subgroups;
+	private final int bricks;
+	private final Durations durations;
+	private final int duration;
+	private final double overlap;
+	private final int from;
+	private final int span;
+	private final int ids;
+
+	/**
+	 * Creates the dataset of thousand bricks in one section of ten groups with ten
+	 * subgroups, lasting for up to two weeks over ten years
+	 *
+	 * @param seed the random seed
+	 */
+	public TestDataset(long seed) {
+		this(seed, 1, 10, 10, 1000, Durations.UNIFORM, 7, 0, 0, 3650, Integer.MAX_VALUE);
+	}
+
+	private TestDataset(long seed, int sections, int groups, int subgroups, int bricks, Durations durations,
+			int duration, double overlap, int from, int span, int ids) {
+		this.seed = seed;
+		this.sections = positive(sections);
+		this.groups = positive(groups);
+		this.subgroups = positive(subgroups);
+		this.bricks = Math.max(0, bricks);
+		this.durations = durations;
+		this.duration = positive(duration);
+		this.overlap = Math.max(0, Math.min(1, overlap));
+		this.from = from;
+		this.span = positive(span);
+		this.ids = positive(ids);
+	}
+
+	private static int positive(int value) {
+		if (value < 1) {
+			throw new IllegalArgumentException(String.valueOf(value));
+		}
+		return value;
+	}
+
+	/**
+	 *
+	 * @param sections  the amount of sections
+	 * @param groups    the amount of groups per section
+	 * @param subgroups the amount of subgroups per group
+	 * @return the dataset with the given hierarchy
+	 */
+	public TestDataset withHierarchy(int sections, int groups, int subgroups) {
+		return new TestDataset(seed, sections, groups, subgroups, bricks, durations, duration, overlap, from, span,
+				ids);
+	}
+
+	/**
+	 *
+	 * @param bricks the amount of bricks
+	 * @return the dataset with the given amount of bricks
+	 */
+	public TestDataset withBricks(int bricks) {
+		return new TestDataset(seed, sections, groups, subgroups, bricks, durations, duration, overlap, from, span,
+				ids);
+	}
+
+	/**
+	 *
+	 * @param durations the distribution of the durations
+	 * @param mean      the mean duration in units
+	 * @return the dataset with the given durations
+	 */
+	public TestDataset withDurations(Durations durations, int mean) {
+		return new TestDataset(seed, sections, groups, subgroups, bricks, durations, mean, overlap, from, span, ids);
+	}
+
+	/**
+	 *
+	 * @param ratio the probability for the brick to start within the previous
+	 *              brick of the same subgroup
+	 * @return the dataset with the given overlap ratio
+	 */
+	public TestDataset withOverlap(double ratio) {
+		return new TestDataset(seed, sections, groups, subgroups, bricks, durations, duration, ratio, from, span,
+				ids);
+	}
+
+	/**
+	 *
+	 * @param from the first unit where the bricks may start
+	 * @param span the amount of units where the bricks may start
+	 * @return the dataset with the given time span
+	 */
+	public TestDataset withSpan(int from, int span) {
+		return new TestDataset(seed, sections, groups, subgroups, bricks, durations, duration, overlap, from, span,
+				ids);
+	}
+
+	/**
+	 *
+	 * @param cardinality the amount of distinct brick identifiers, the identifiers
+	 *                    are repeated if it is less than the amount of bricks
+	 * @return the dataset with the given identifier cardinality
+	 */
+	public TestDataset withIds(int cardinality) {
+		return new TestDataset(seed, sections, groups, subgroups, bricks, durations, duration, overlap, from, span,
+				cardinality);
+	}
+
+	/**
+	 *
+	 * @return the amount of bricks
+	 */
+	public int size() {
+		return bricks;
+	}
+
+	@Override
+	public Iterator<TestInputObject> iterator() {
+		return new Generator();
+	}
+
+	/**
+	 *
+	 * @return the sequential stream of the generated records
+	 */
+	public Stream<TestInputObject> stream() {
+		return StreamSupport.stream(Spliterators.spliterator(iterator(), bricks,
+				Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE), false);
+	}
+
+	private final class Generator implements Iterator<TestInputObject> {
+
+		private final Random random = new Random(seed);
+		private final int[] starts;
+		private final int[] ends;
+		private int index;
+
+		Generator() {
+			int rows = (int) Math.min(Integer.MAX_VALUE - 8, (long) sections * groups * subgroups);
+			starts = new int[rows];
+			ends = new int[rows];
+		}
+
+		@Override
+		public boolean hasNext() {
+			return index < bricks;
+		}
+
+		@Override
+		public TestInputObject next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			int row = random.nextInt(starts.length);
+			int start;
+			if (ends[row] > starts[row] && random.nextDouble() < overlap) {
+				start = starts[row] + random.nextInt(Math.min(ends[row], from + span) - starts[row]);
+			} else {
+				start = from + random.nextInt(span);
+			}
+			int end = start + durations.next(random, duration);
+			starts[row] = start;
+			ends[row] = end;
+			int section = row / (groups * subgroups);
+			int group = row / subgroups % groups;
+			int subgroup = row % subgroups;
+			String id = "test.id." + (index % ids); //$NON-NLS-1$
+			TestInputObject object = new TestInputObject(id, "test.container.id." + group, //$NON-NLS-1$
+					"test.subcontainer.id." + subgroup, "test.parent.id." + section, "test.name." + index, //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+					"test.description." + index, start, end); //$NON-NLS-1$
+			index++;
+			return object;
+		}
+	}
+
+}
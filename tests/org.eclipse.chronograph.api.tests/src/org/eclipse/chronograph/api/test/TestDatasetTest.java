@@ -0,0 +1,56 @@
+/*******************************************************************************
+ * Copyright (c) 2020 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.chronograph.api.test;
+
+import java.util.Iterator;
+
+import org.eclipse.chronograph.api.test.TestDataset.Durations;
+import org.eclipse.chronograph.internal.base.PlainData;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TestDatasetTest {
+
+	private final TestDataset dataset = new TestDataset(42).withHierarchy(2, 3, 4).withBricks(10000)
+			.withDurations(Durations.EXPONENTIAL, 5).withOverlap(0.5).withSpan(100, 1000).withIds(5000);
+
+	@Test
+	public void repeatable() {
+		Iterator<TestInputObject> other = dataset.iterator();
+		for (TestInputObject object : dataset) {
+			TestInputObject expected = other.next();
+			Assert.assertEquals(expected.id, object.id);
+			Assert.assertEquals(expected.subContainerId, object.subContainerId);
+			Assert.assertEquals(expected.start, object.start);
+			Assert.assertEquals(expected.end, object.end);
+		}
+		Assert.assertFalse(other.hasNext());
+	}
+
+	@Test
+	public void bounds() {
+		Assert.assertEquals(10000, dataset.stream().count());
+		Assert.assertTrue(dataset.stream().allMatch(o -> o.start >= 100 && o.start < 1100 && o.end > o.start));
+		Assert.assertEquals(5000, dataset.stream().map(o -> o.id).distinct().count());
+		Assert.assertEquals(2, dataset.stream().map(o -> o.rootContainerId).distinct().count());
+	}
+
+	@Test
+	public void structure() {
+		PlainData<TestInputObject> data = new PlainData<>(new TestResolution(dataset));
+		data.restructure(TestResolution.STRUCTURE);
+		Assert.assertEquals(2, data.groups().size());
+		Assert.assertEquals(3, data.subGroups(data.groups().get(0)).size());
+	}
+
+}
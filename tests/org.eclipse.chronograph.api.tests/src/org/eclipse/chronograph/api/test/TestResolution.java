@@ -0,0 +1,166 @@
+/*******************************************************************************
+ * Copyright (c) 2020 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.chronograph.api.test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+import org.eclipse.chronograph.internal.base.data.DefaultAccess;
+
+/**
+ *
+ * Resolution of {@link TestInputObject}s grouped by the root container, the
+ * container and the subcontainer. The input is pushed to the sink as it is
+ * iterated, so the generated {@link TestDataset} is never materialized
+ *
+ */
+public final class TestResolution extends DefaultAccess<TestInputObject> {
+
+	/**
+	 * The group of the input objects at one of the levels, identified by the
+	 * key of the level
+	 */
+	public abstract static class Node {
+
+		private final String id;
+
+		Node(String id) {
+			this.id = id;
+		}
+
+		public String id() {
+			return id;
+		}
+	}
+
+	public static final class RootContainer extends Node {
+
+		RootContainer(String id) {
+			super(id);
+		}
+	}
+
+	public static final class Container extends Node {
+
+		Container(String id) {
+			super(id);
+		}
+	}
+
+	public static final class SubContainer extends Node {
+
+		SubContainer(String id) {
+			super(id);
+		}
+	}
+
+	public static final List<Class<?>> STRUCTURE = Arrays.asList(RootContainer.class, Container.class,
+			SubContainer.class);
+
+	private final Iterable<TestInputObject> input;
+
+	/**
+	 *
+	 * @param input the input objects, iterated on every request
+	 */
+	public TestResolution(Iterable<TestInputObject> input) {
+		super(TestInputObject.class);
+		this.input = input;
+	}
+
+	@Override
+	public Function<Predicate<TestInputObject>, List<TestInputObject>> input() {
+		return filter -> {
+			List<TestInputObject> result = new ArrayList<>();
+			input(filter, result::add);
+			return result;
+		};
+	}
+
+	@Override
+	public void input(Predicate<TestInputObject> filter, Consumer<? super TestInputObject> sink) {
+		for (TestInputObject object : input) {
+			if (filter.test(object)) {
+				sink.accept(object);
+			}
+		}
+	}
+
+	@Override
+	public <D> Function<D, String> identification(Class<D> domain) {
+		if (domain == TestInputObject.class) {
+			return object -> ((TestInputObject) object).id;
+		}
+		if (Node.class.isAssignableFrom(domain)) {
+			return node -> ((Node) node).id();
+		}
+		return String::valueOf;
+	}
+
+	@Override
+	public <G> Function<TestInputObject, Optional<G>> adapt(Class<G> group) {
+		if (group == RootContainer.class) {
+			return object -> Optional.of(group.cast(new RootContainer(object.rootContainerId)));
+		}
+		if (group == Container.class) {
+			return object -> Optional.of(group.cast(new Container(object.containerId)));
+		}
+		if (group == SubContainer.class) {
+			return object -> Optional.of(group.cast(new SubContainer(object.subContainerId)));
+		}
+		return object -> Optional.empty();
+	}
+
+	@Override
+	public <G> Function<TestInputObject, String> grouping(Class<G> grouping) {
+		if (grouping == RootContainer.class) {
+			return object -> object.rootContainerId;
+		}
+		if (grouping == Container.class) {
+			return object -> object.containerId;
+		}
+		return object -> object.subContainerId;
+	}
+
+	@Override
+	public Function<TestInputObject, Integer> start() {
+		return object -> object.start;
+	}
+
+	@Override
+	public Function<TestInputObject, Integer> end() {
+		return object -> object.end;
+	}
+
+	@Override
+	public ToLongFunction<TestInputObject> startAsLong() {
+		return object -> object.start;
+	}
+
+	@Override
+	public ToLongFunction<TestInputObject> endAsLong() {
+		return object -> object.end;
+	}
+
+	@Override
+	public List<Class<?>> groupings() {
+		return STRUCTURE;
+	}
+
+}